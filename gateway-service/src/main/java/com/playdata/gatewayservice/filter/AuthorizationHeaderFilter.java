@@ -1,22 +1,20 @@
 package com.playdata.gatewayservice.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.List;
 
 
@@ -24,38 +22,52 @@ import java.util.List;
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private final JwtVerifier jwtVerifier;
 
-    private final List<String> allowUrl = Arrays.asList(
+    private static final List<String> ALLOW_URL = List.of(
             "/user/create", "/user/doLogin", "/user/refresh", "/user/email-valid", "/user/verify", "/user/kakao", "/user/health-check",
             "/product/list", "/user/health-check","/product/detail/*",
+            "/product/search/*",
             "/review/list/*",
             "/review/detail/*",
-            "/category/list","/category/navList",
-            "/ordering-service/subscribe",
-            "/ordering-service/subscribe/**"
+            "/category/list","/category/navList"
     );
 
+    // 주문 상태 SSE 구독: 브라우저 EventSource 는 헤더를 붙일 수 없어 쿼리 파라미터 token 도 받는다
+    private static final PathPattern SUBSCRIBE_PATTERN = PathPatternParser.defaultInstance.parse("/subscribe");
+
+    // 허용 경로 패턴은 시작 시 한 번만 파싱해 둔다
+    private static final List<PathPattern> ALLOW_PATTERNS = ALLOW_URL.stream()
+            .distinct()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    public AuthorizationHeaderFilter(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+    }
+
     @Override
     public GatewayFilter apply(Object config) {
         return (exchange, chain) -> {
             String path = exchange.getRequest().getURI().getPath();
-            AntPathMatcher antPathMatcher = new AntPathMatcher();
 
-
-            boolean isAllowed
-                    = allowUrl.stream()
-                    .anyMatch(url -> antPathMatcher.match(url, path));
-            log.info("isAllowed: {}", isAllowed);
+            boolean isAllowed = isAllowed(exchange.getRequest().getPath().pathWithinApplication());
+            log.debug("isAllowed: {}", isAllowed);
 
             if (isAllowed || path.startsWith("/actuator")) {
 
-                log.info("gateway filter 통과!");
+                log.debug("gateway filter 통과!");
                 return chain.filter(exchange);
             }
 
             String authorizationHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
+            if (authorizationHeader == null
+                    && SUBSCRIBE_PATTERN.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+                String token = exchange.getRequest().getQueryParams().getFirst("token");
+                if (token != null) {
+                    authorizationHeader = "Bearer " + token;
+                }
+            }
 
             if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
                 if (path.startsWith("/ordering-service/orders/") || path.startsWith("/ordering-service/cart/") ) {
@@ -66,15 +78,15 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
 
             String token = authorizationHeader.replace("Bearer ", "");
 
-            Claims claims = validateJwt(token);
-            if (claims == null) {
+            JwtVerifier.VerifiedToken verified = jwtVerifier.verify(token);
+            if (verified == null) {
                 return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
 
             ServerHttpRequest request = exchange.getRequest()
                     .mutate()
-                    .header("X-User-Email", claims.getSubject())
-                    .header("X-User-Role", claims.get("role", String.class))
+                    .header("X-User-Email", verified.getEmail())
+                    .header("X-User-Role", verified.getRole())
                     .build();
             return chain.filter(exchange.mutate().request(request).build());
         };
@@ -92,16 +104,10 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
         return response.writeWith(Mono.just(buffer));
     }
 
-    private Claims validateJwt(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (Exception e) {
-            log.error("JWT validation failed: {}", e.getMessage());
-            return null;
+    private boolean isAllowed(PathContainer path) {
+        for (PathPattern pattern : ALLOW_PATTERNS) {
+            if (pattern.matches(path)) return true;
         }
+        return false;
     }
 }
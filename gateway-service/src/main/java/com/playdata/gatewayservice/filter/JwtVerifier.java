@@ -0,0 +1,102 @@
+package com.playdata.gatewayservice.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// JWT 검증 + 최근 검증된 토큰 캐시
+// 파서는 한 번만 만들어 재사용하고(스레드 안전), 같은 토큰이 반복해서 들어오면
+// 서명 검증/클레임 파싱 없이 캐시 결과를 쓴다. 캐시 키는 토큰 원문이 아닌 SHA-256 해시.
+// 항목은 토큰 만료 시각(exp)까지만, 최대 max-ttl 동안 유지한다. 실패한 토큰은 캐시하지 않는다.
+@Component
+@Slf4j
+public class JwtVerifier {
+
+    private final JwtParser jwtParser;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public JwtVerifier(@Value("${jwt.secretKey}") String secretKey,
+                       @Value("${jwt.cache.max-size:10000}") long maxSize,
+                       @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(value.getExpiresAt() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExp, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 검증 실패 시 null
+    public VerifiedToken verify(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE
+            );
+            cache.put(key, verified);
+            return verified;
+        } catch (Exception e) {
+            log.error("JWT validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class VerifiedToken {
+        private final String email;
+        private final String role;
+        private final long expiresAt; // epoch millis
+    }
+}
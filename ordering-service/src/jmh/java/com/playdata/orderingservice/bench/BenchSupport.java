@@ -0,0 +1,167 @@
+package com.playdata.orderingservice.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.ordering.dto.StockReplyDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveReqDto;
+import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.repository.OrderItemRepository;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import com.playdata.orderingservice.ordering.service.OrderSagaService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.function.Supplier;
+
+// 벤치마크 공통 유틸 (컨텍스트 기동, 요청 범위 흉내, 통계, 초과 판매 집계)
+public final class BenchSupport {
+
+    private BenchSupport() {
+    }
+
+    public static long longProperty(String key, long defaultValue) {
+        return Long.parseLong(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+
+    // 외부 인프라(config-server, eureka, MySQL) 없이 내장 H2로 컨텍스트 기동
+    public static ConfigurableApplicationContext startContext() {
+        System.setProperty("spring.cloud.bootstrap.enabled", "false");
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.cloud.config.enabled=false",
+                        "spring.cloud.config.import-check.enabled=false",
+                        "spring.cloud.discovery.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.hikari.maximum-pool-size="
+                                + longProperty("bench.dbPoolSize", 50),
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.data.redis.host=localhost",
+                        "spring.data.redis.port=6379",
+                        // p6spy SQL 로그는 측정값을 왜곡하므로 끈다
+                        "decorator.datasource.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    // 웹 요청의 OSIV(open-in-view)처럼 호출 동안 EntityManager를 스레드에 묶어 둔다
+    public static <T> T inRequestScope(ConfigurableApplicationContext ctx, Supplier<T> work) {
+        EntityManagerFactory emf = ctx.getBean(EntityManagerFactory.class);
+        EntityManager em = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(em));
+        try {
+            return work.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            EntityManagerFactoryUtils.closeEntityManager(em);
+        }
+    }
+
+    // 정렬된 지연 시간 배열에서 백분위 값 (nanos)
+    public static long percentile(long[] sortedNanos, double p) {
+        if (sortedNanos.length == 0) return 0;
+        int index = (int) Math.ceil(p / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))];
+    }
+
+    public static String latencySummary(String name, long[] nanos, long elapsedNanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return String.format("%-10s count=%d  throughput=%.1f ops/s  p50=%.2fms  p99=%.2fms  max=%.2fms",
+                name, sorted.length, sorted.length / seconds,
+                percentile(sorted, 50) / 1_000_000.0,
+                percentile(sorted, 99) / 1_000_000.0,
+                (sorted.length == 0 ? 0 : sorted[sorted.length - 1]) / 1_000_000.0);
+    }
+
+    // 벤치에는 Redis 릴레이/리스너가 없으므로 아웃박스의 재고 명령을 대역에 직접 적용하고 응답을 반영
+    public static void drainStockSaga(ConfigurableApplicationContext ctx) {
+        StubProductServiceClient products = ctx.getBean(StubProductServiceClient.class);
+        OrderOutboxRepository outbox = ctx.getBean(OrderOutboxRepository.class);
+        OrderSagaService saga = ctx.getBean(OrderSagaService.class);
+        ObjectMapper objectMapper = ctx.getBean(ObjectMapper.class);
+
+        for (OrderOutbox event : outbox.findAll(Sort.by("id"))) {
+            if (event.getStatus() != OrderOutbox.Status.PENDING) continue;
+
+            List<StockReserveReqDto> items;
+            try {
+                items = objectMapper.readValue(event.getPayload(), new TypeReference<List<StockReserveReqDto>>() {});
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("bad outbox payload: " + event.getId(), e);
+            }
+
+            if (event.getEventType() == OrderOutbox.EventType.STOCK_RESERVE) {
+                List<Long> failed = products.reserveStock(items);
+                saga.onStockReply(new StockReplyDto(event.getOrderId(), "RESERVE", failed.isEmpty(),
+                        failed.isEmpty() ? null : "OUT_OF_STOCK", failed));
+            } else {
+                products.cancelProduct(items.stream().collect(
+                        Collectors.toMap(StockReserveReqDto::getProductId, StockReserveReqDto::getQuantity, Integer::sum)));
+                saga.onStockReply(new StockReplyDto(event.getOrderId(), "RELEASE", true, null, List.of()));
+            }
+
+            event.setStatus(OrderOutbox.Status.PUBLISHED);
+            outbox.save(event);
+        }
+    }
+
+    // 초과 판매 집계
+    // oversold: 상품별로 (주문 완료 수량 - 초기 재고)가 양수인 만큼의 합
+    // drift   : 상품별 |(초기 재고 - 최종 재고) - 주문 완료 수량| 의 합 (유실된 재고 갱신)
+    public static String stockReport(ConfigurableApplicationContext ctx) {
+        drainStockSaga(ctx);
+        StubProductServiceClient products = ctx.getBean(StubProductServiceClient.class);
+        Map<Long, Integer> ordered = new HashMap<>();
+        for (OrderItem item : ctx.getBean(OrderItemRepository.class).findAll()) {
+            if (item.getOrderStatus() != null && item.getOrderStatus() != OrderStatus.CANCELED) {
+                ordered.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+        }
+
+        long unitsOrdered = 0;
+        long oversold = 0;
+        long drift = 0;
+        for (Long productId : products.productIds()) {
+            int initial = products.initialStock(productId);
+            int current = products.currentStock(productId);
+            int units = ordered.getOrDefault(productId, 0);
+            unitsOrdered += units;
+            oversold += Math.max(0, units - initial);
+            drift += Math.abs((initial - current) - units);
+        }
+        return String.format("unitsOrdered=%d  oversold=%d  stockDrift=%d  productCalls=%d  userCalls=%d",
+                unitsOrdered, oversold, drift,
+                products.callCount(), ctx.getBean(StubUserServiceClient.class).callCount());
+    }
+}
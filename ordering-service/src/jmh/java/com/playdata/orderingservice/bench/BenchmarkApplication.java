@@ -0,0 +1,42 @@
+package com.playdata.orderingservice.bench;
+
+import com.playdata.orderingservice.cart.repository.JpaCartStore;
+import com.playdata.orderingservice.cart.service.CartService;
+import com.playdata.orderingservice.client.ProductCache;
+import com.playdata.orderingservice.common.configs.AsyncConfig;
+import com.playdata.orderingservice.ordering.mapper.OrderExportWriter;
+import com.playdata.orderingservice.ordering.mapper.OrderMapper;
+import com.playdata.orderingservice.ordering.service.OrderSagaService;
+import com.playdata.orderingservice.ordering.service.OrderService;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// 벤치마크 전용 스프링 컨텍스트
+// 컨트롤러/보안/Feign 없이 주문 경로(OrderService, CartService)와 JPA 저장소만 띄우고
+// 원격 서비스는 지연을 흉내 내는 대역으로 대체한다.
+// 재고 사가의 Redis 릴레이/리스너 대신 BenchSupport.drainStockSaga 가 아웃박스를 대역에 직접 적용한다.
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = RedisRepositoriesAutoConfiguration.class)
+@EntityScan(basePackages = "com.playdata.orderingservice")
+@EnableJpaRepositories(basePackages = "com.playdata.orderingservice")
+@Import({OrderService.class, OrderSagaService.class, CartService.class, JpaCartStore.class, OrderMapper.class, OrderExportWriter.class, AsyncConfig.class, ProductCache.class})
+public class BenchmarkApplication {
+
+    @Bean
+    public StubProductServiceClient productServiceClient() {
+        return new StubProductServiceClient(
+                BenchSupport.longProperty("bench.productLatencyMs", 20),
+                (int) BenchSupport.longProperty("bench.products", 10),
+                (int) BenchSupport.longProperty("bench.initialStock", 1000));
+    }
+
+    @Bean
+    public StubUserServiceClient userServiceClient() {
+        return new StubUserServiceClient(BenchSupport.longProperty("bench.userLatencyMs", 20));
+    }
+}
@@ -0,0 +1,87 @@
+package com.playdata.orderingservice.bench;
+
+import com.playdata.orderingservice.cart.dto.CartItemDto;
+import com.playdata.orderingservice.cart.dto.CartResponseDto;
+import com.playdata.orderingservice.cart.service.CartService;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// JMH 벤치마크: 200 스레드가 동시에 바로 주문(createOrder) / 장바구니 조회(getCart)를 호출
+// SampleTime 모드로 p50/p99, Throughput 모드로 처리량을 측정하고 종료 시 초과 판매 수를 출력한다.
+// 실행: ./gradlew jmh
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CheckoutBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        ConfigurableApplicationContext ctx;
+        CartService cartService;
+        OrderService orderService;
+        List<Long> productIds;
+
+        @Setup(Level.Trial)
+        public void start() {
+            ctx = BenchSupport.startContext();
+            cartService = ctx.getBean(CartService.class);
+            orderService = ctx.getBean(OrderService.class);
+            productIds = List.copyOf(ctx.getBean(StubProductServiceClient.class).productIds());
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            System.out.println();
+            System.out.println(BenchSupport.stockReport(ctx));
+            ctx.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class VirtualUser {
+        private static final AtomicInteger SEQ = new AtomicInteger();
+        TokenUserInfo user;
+
+        @Setup(Level.Trial)
+        public void login(Context c) {
+            user = new TokenUserInfo("jmh" + SEQ.incrementAndGet() + "@bench.local", Role.USER);
+            // 장바구니 조회용으로 상품 몇 개를 미리 담아 둔다
+            for (int i = 0; i < 3; i++) {
+                Long productId = c.productIds.get(i % c.productIds.size());
+                BenchSupport.inRequestScope(c.ctx, () -> c.cartService.addItemToCart(
+                        new CartItemDto(productId, 1, null), user));
+            }
+        }
+    }
+
+    @Benchmark
+    public Order createOrder(Context c, VirtualUser u) {
+        OrderRequestDto request = new OrderRequestDto();
+        request.setDirectProductId(c.productIds.get(ThreadLocalRandom.current().nextInt(c.productIds.size())));
+        request.setQuantity(1);
+        try {
+            return BenchSupport.inRequestScope(c.ctx, () -> c.orderService.createOrder(request, u.user));
+        } catch (RuntimeException e) {
+            // 재고 소진 후 거절되는 주문도 지연 측정에 포함
+            return null;
+        }
+    }
+
+    @Benchmark
+    public CartResponseDto getCart(Context c, VirtualUser u) {
+        return BenchSupport.inRequestScope(c.ctx, () -> c.cartService.getCart(u.user));
+    }
+}
@@ -0,0 +1,99 @@
+package com.playdata.orderingservice.bench;
+
+import com.playdata.orderingservice.cart.dto.CartItemDto;
+import com.playdata.orderingservice.cart.dto.CartResponseDto;
+import com.playdata.orderingservice.cart.service.CartService;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
+import com.playdata.orderingservice.ordering.service.OrderService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 경로 동시 부하 테스트.
+ * 가상 사용자마다 장바구니 담기 -> 장바구니 조회(getCart) -> 장바구니 주문(createOrder)을 반복하고
+ * p50/p99 지연, 처리량, 초과 판매 수를 출력한다.
+ *
+ * 실행: ./gradlew loadTest -Dbench.users=200 -Dbench.iterations=20
+ *       -Dbench.productLatencyMs=20 -Dbench.userLatencyMs=20 -Dbench.products=10 -Dbench.initialStock=1000
+ */
+public class CheckoutLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int users = (int) BenchSupport.longProperty("bench.users", 200);
+        int iterations = (int) BenchSupport.longProperty("bench.iterations", 20);
+        int maxQuantity = (int) BenchSupport.longProperty("bench.maxQuantity", 3);
+
+        ConfigurableApplicationContext ctx = BenchSupport.startContext();
+        try {
+            CartService cartService = ctx.getBean(CartService.class);
+            OrderService orderService = ctx.getBean(OrderService.class);
+            List<Long> productIds = List.copyOf(ctx.getBean(StubProductServiceClient.class).productIds());
+
+            long[] cartLatencies = new long[users * iterations];
+            long[] orderLatencies = new long[users * iterations];
+            AtomicLong failedOrders = new AtomicLong();
+
+            ExecutorService pool = Executors.newFixedThreadPool(users);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int u = 0; u < users; u++) {
+                final int userNo = u;
+                futures.add(pool.submit(() -> {
+                    TokenUserInfo user = new TokenUserInfo("user" + userNo + "@bench.local", Role.USER);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        int slot = userNo * iterations + i;
+                        Long productId = productIds.get(random.nextInt(productIds.size()));
+                        int quantity = 1 + random.nextInt(maxQuantity);
+
+                        BenchSupport.inRequestScope(ctx, () -> cartService.addItemToCart(
+                                new CartItemDto(productId, quantity, null), user));
+
+                        long t0 = System.nanoTime();
+                        CartResponseDto cart = BenchSupport.inRequestScope(ctx, () -> cartService.getCart(user));
+                        cartLatencies[slot] = System.nanoTime() - t0;
+
+                        OrderRequestDto request = new OrderRequestDto();
+                        request.setCartItemIds(cart.getItems().stream()
+                                .map(CartResponseDto.CartItemDetailDto::getCartItemId)
+                                .toList());
+
+                        long t1 = System.nanoTime();
+                        try {
+                            BenchSupport.inRequestScope(ctx, () -> orderService.createOrder(request, user));
+                        } catch (RuntimeException e) {
+                            // 재고 부족 등 정상적인 주문 거절
+                            failedOrders.incrementAndGet();
+                        }
+                        orderLatencies[slot] = System.nanoTime() - t1;
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            pool.shutdown();
+
+            System.out.printf("users=%d iterations=%d elapsed=%.2fs%n", users, iterations, elapsed / 1e9);
+            System.out.println(BenchSupport.latencySummary("getCart", cartLatencies, elapsed));
+            System.out.println(BenchSupport.latencySummary("createOrder", orderLatencies, elapsed));
+            System.out.println("rejectedOrders=" + failedOrders.get());
+            System.out.println(BenchSupport.stockReport(ctx));
+        } finally {
+            ctx.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.playdata.orderingservice.bench;
+
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveReqDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// product-service 대역: 메모리 재고 + 호출마다 설정된 지연(ms)
+// 재고 예약은 product-service와 같은 규칙(전부 성공 또는 전부 실패)으로 동작한다.
+public class StubProductServiceClient implements ProductServiceClient {
+
+    private final long latencyMillis;
+    private final Map<Long, ProductResDto> catalog = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> initialStock = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> stock = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+
+    public StubProductServiceClient(long latencyMillis, int productCount, int stockPerProduct) {
+        this.latencyMillis = latencyMillis;
+        for (long id = 1; id <= productCount; id++) {
+            catalog.put(id, ProductResDto.builder()
+                    .id(id)
+                    .name("bench-product-" + id)
+                    .price(10000)
+                    .mainImagePath("https://bench.local/main/" + id)
+                    .thumbnailPath("https://bench.local/thumb/" + id)
+                    .categoryName("bench")
+                    .productImages(List.of())
+                    .build());
+            initialStock.put(id, stockPerProduct);
+            stock.put(id, stockPerProduct);
+        }
+    }
+
+    @Override
+    public CommonResDto<ProductResDto> findById(Long prodId) {
+        simulateLatency();
+        return new CommonResDto<>(HttpStatus.OK, "조회 완료", snapshot(prodId));
+    }
+
+    @Override
+    public ResponseEntity<?> updateQuantity(ProductResDto productResDto) {
+        simulateLatency();
+        stock.put(productResDto.getId(), productResDto.getStockQuantity());
+        return ResponseEntity.ok().build();
+    }
+
+    // product-service 재고 명령(RESERVE) 대역: 재고가 부족한 상품 ID 목록을 돌려준다 (비어 있으면 전부 차감됨)
+    public List<Long> reserveStock(List<StockReserveReqDto> items) {
+        simulateLatency();
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        synchronized (stock) {
+            List<Long> failed = quantities.entrySet().stream()
+                    .filter(e -> stock.getOrDefault(e.getKey(), 0) < e.getValue())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            if (failed.isEmpty()) {
+                quantities.forEach((productId, quantity) -> stock.merge(productId, -quantity, Integer::sum));
+            }
+            return failed;
+        }
+    }
+
+    @Override
+    public List<ProductResDto> getProducts(List<Long> productIds) {
+        simulateLatency();
+        return productIds.stream()
+                .distinct()
+                .filter(catalog::containsKey)
+                .map(this::snapshot)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ResponseEntity<?> cancelProduct(Map<Long, Integer> map) {
+        simulateLatency();
+        synchronized (stock) {
+            map.forEach((productId, quantity) -> stock.merge(productId, quantity, Integer::sum));
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ProductResDto getProductById(Long productId) {
+        simulateLatency();
+        return snapshot(productId);
+    }
+
+    public Set<Long> productIds() {
+        return catalog.keySet();
+    }
+
+    public int initialStock(Long productId) {
+        return initialStock.get(productId);
+    }
+
+    public int currentStock(Long productId) {
+        return stock.get(productId);
+    }
+
+    public long callCount() {
+        return calls.get();
+    }
+
+    private ProductResDto snapshot(Long productId) {
+        ProductResDto p = catalog.get(productId);
+        return ProductResDto.builder()
+                .id(p.getId())
+                .name(p.getName())
+                .price(p.getPrice())
+                .stockQuantity(stock.get(productId))
+                .mainImagePath(p.getMainImagePath())
+                .thumbnailPath(p.getThumbnailPath())
+                .categoryName(p.getCategoryName())
+                .productImages(p.getProductImages())
+                .build();
+    }
+
+    private void simulateLatency() {
+        calls.incrementAndGet();
+        BenchSupport.sleep(latencyMillis);
+    }
+}
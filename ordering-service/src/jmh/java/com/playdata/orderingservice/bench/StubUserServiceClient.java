@@ -0,0 +1,37 @@
+package com.playdata.orderingservice.bench;
+
+import com.playdata.orderingservice.client.UserServiceClient;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.ordering.dto.UserResDto;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// user-service 대역: 어떤 이메일이든 기본 주소를 가진 사용자로 응답 (호출마다 설정된 지연)
+public class StubUserServiceClient implements UserServiceClient {
+
+    private final long latencyMillis;
+    private final AtomicLong calls = new AtomicLong();
+
+    public StubUserServiceClient(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public CommonResDto<UserResDto> findByEmail(String email) {
+        calls.incrementAndGet();
+        BenchSupport.sleep(latencyMillis);
+        UserResDto user = UserResDto.builder()
+                .email(email)
+                .name("bench")
+                .role(Role.USER)
+                .address("서울시 벤치구 부하로 1")
+                .build();
+        return new CommonResDto<>(HttpStatus.OK, "조회 완료", user);
+    }
+
+    public long callCount() {
+        return calls.get();
+    }
+}
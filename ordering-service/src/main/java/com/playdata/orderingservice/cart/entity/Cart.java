@@ -4,15 +4,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "carts")
+@Table(name = "carts", indexes = {
+        @Index(name = "idx_carts_email", columnList = "email")
+})
 public class Cart {
 
     @Id
@@ -25,4 +26,44 @@ public class Cart {
 
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartItem> items = new ArrayList<>();
+
+    // 상품 ID -> 장바구니 항목 (DB 컬럼 아님, 처음 조회할 때 한 번 만들고 아래 메서드들이 함께 갱신)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<Long, CartItem> productIndex;
+
+    // 상품 ID로 항목 찾기 (O(1))
+    public Optional<CartItem> findItem(Long productId) {
+        return Optional.ofNullable(productIndex().get(productId));
+    }
+
+    // 여러 상품을 한 번에 담기. 이미 있는 상품은 수량만 더한다.
+    public void addItems(Map<Long, Integer> quantities) {
+        Map<Long, CartItem> index = productIndex();
+        quantities.forEach((productId, quantity) -> {
+            CartItem existing = index.get(productId);
+            if (existing != null) {
+                existing.addQuantity(quantity);
+            } else {
+                CartItem item = CartItem.builder()
+                        .productId(productId)
+                        .quantity(quantity)
+                        .cart(this)
+                        .build();
+                items.add(item);
+                index.put(productId, item);
+            }
+        });
+    }
+
+    private Map<Long, CartItem> productIndex() {
+        // items 가 외부에서 직접 바뀐 경우(크기 불일치)에도 다시 만든다
+        if (productIndex == null || productIndex.size() != items.size()) {
+            productIndex = new HashMap<>(items.size() * 2);
+            for (CartItem item : items) {
+                productIndex.put(item.getProductId(), item);
+            }
+        }
+        return productIndex;
+    }
 }
@@ -9,6 +9,9 @@ import lombok.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(name = "cart_item", indexes = {
+        @Index(name = "idx_cart_item_cart_product", columnList = "cart_id, productId")
+})
 public class CartItem {
 
     @Id
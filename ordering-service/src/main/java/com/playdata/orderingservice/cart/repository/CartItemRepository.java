@@ -0,0 +1,25 @@
+package com.playdata.orderingservice.cart.repository;
+
+import com.playdata.orderingservice.cart.entity.CartItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+// 장바구니 항목 삭제는 컬렉션 orphanRemoval(항목마다 DELETE) 대신 한 번의 벌크 DELETE 로 처리
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.cartId = :cartId AND ci.id IN :ids")
+    int deleteByCartIdAndIdIn(@Param("cartId") Long cartId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.cartId = :cartId AND ci.productId = :productId")
+    int deleteByCartIdAndProductId(@Param("cartId") Long cartId, @Param("productId") Long productId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.cartId = :cartId")
+    int deleteAllByCartId(@Param("cartId") Long cartId);
+}
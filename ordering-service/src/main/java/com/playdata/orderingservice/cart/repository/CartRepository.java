@@ -2,9 +2,15 @@ package com.playdata.orderingservice.cart.repository;
 
 import com.playdata.orderingservice.cart.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByEmail(String email);
+
+    // 항목을 읽지 않고 벌크 삭제만 할 때 사용
+    @Query("SELECT c.cartId FROM Cart c WHERE c.email = :email")
+    Optional<Long> findCartIdByEmail(@Param("email") String email);
 }
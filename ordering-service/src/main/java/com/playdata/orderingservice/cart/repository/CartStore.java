@@ -0,0 +1,27 @@
+package com.playdata.orderingservice.cart.repository;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// 장바구니 저장소 (cart.store=jpa | redis)
+// 조회 결과는 항상 Cart/CartItem 형태로 돌려준다. redis 모드에서는 영속되지 않은 객체이며 CartItem.id 는 상품 ID와 같다.
+public interface CartStore {
+
+    Optional<Cart> findByEmail(String email);
+
+    // 같은 상품이 있으면 수량을 더하고, 없으면 새로 담는다
+    Cart addItem(String email, Long productId, int quantity);
+
+    // 수량 변경 (0 이하면 삭제). 장바구니나 상품이 없으면 EntityNotFoundException
+    Cart updateQuantity(String email, Long productId, int quantity);
+
+    // 특정 상품 제거. 장바구니나 상품이 없으면 EntityNotFoundException
+    Cart removeItem(String email, Long productId);
+
+    void clear(String email);
+
+    // 주문 완료된 장바구니 항목 제거
+    void checkout(String email, Collection<Long> cartItemIds);
+}
@@ -0,0 +1,95 @@
+package com.playdata.orderingservice.cart.repository;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+// MySQL carts / cart_item 테이블에 장바구니를 저장 (기본값)
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+
+    @Override
+    public Optional<Cart> findByEmail(String email) {
+        return cartRepository.findByEmail(email);
+    }
+
+    @Override
+    @Transactional
+    public Cart addItem(String email, Long productId, int quantity) {
+        Cart cart = cartRepository.findByEmail(email)
+                .orElseGet(() -> Cart.builder()
+                        .email(email)
+                        .items(new ArrayList<>())
+                        .build());
+
+        cart.addItems(Map.of(productId, quantity));
+
+        return cartRepository.save(cart);
+    }
+
+    @Override
+    @Transactional
+    public Cart updateQuantity(String email, Long productId, int quantity) {
+        Cart cart = getCart(email);
+
+        CartItem targetItem = cart.findItem(productId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 상품이 장바구니에 존재하지 않습니다."));
+
+        if (quantity <= 0) {
+            cartItemRepository.deleteByCartIdAndProductId(cart.getCartId(), productId);
+            return getCart(email);
+        }
+
+        targetItem.setQuantity(quantity);
+        return cart;
+    }
+
+    @Override
+    @Transactional
+    public Cart removeItem(String email, Long productId) {
+        Long cartId = getCartId(email);
+        if (cartItemRepository.deleteByCartIdAndProductId(cartId, productId) == 0) {
+            throw new EntityNotFoundException("해당 상품이 장바구니에 존재하지 않습니다.");
+        }
+        return getCart(email);
+    }
+
+    @Override
+    @Transactional
+    public void clear(String email) {
+        cartItemRepository.deleteAllByCartId(getCartId(email)); // 장바구니 항목 한 번에 삭제
+    }
+
+    @Override
+    @Transactional
+    public void checkout(String email, Collection<Long> cartItemIds) {
+        if (cartItemIds.isEmpty()) return;
+        // 항목을 읽어 오지 않고 DELETE ... WHERE id IN (...) 한 번으로 삭제
+        cartItemRepository.deleteByCartIdAndIdIn(getCartId(email), new HashSet<>(cartItemIds));
+    }
+
+    private Long getCartId(String email) {
+        return cartRepository.findCartIdByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
+    }
+
+    private Cart getCart(String email) {
+        return cartRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
+    }
+}
@@ -0,0 +1,189 @@
+package com.playdata.orderingservice.cart.repository;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import com.playdata.orderingservice.cart.service.CartSyncService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+// 장바구니를 Redis 해시(cart:{email} -> {상품ID: 수량})로 저장
+// 담기/수정/삭제는 HINCRBY / HSET / HDEL 한 번으로 끝나고 DB 트랜잭션을 쓰지 않는다.
+// MySQL 에는 주문(checkout) / 비우기 시점에만 남은 장바구니를 비동기로 반영한다.
+// redis 에 장바구니가 없으면(만료 / 저장소 전환 직후) MySQL 장바구니를 한 번 읽어 와서 채운다.
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+@Slf4j
+public class RedisCartStore implements CartStore {
+
+    private static final String KEY_PREFIX = "cart:";
+    // MySQL 장바구니를 이미 읽어 왔음을 표시 (비운 장바구니가 MySQL 에서 되살아나지 않도록)
+    private static final String LOADED_SUFFIX = ":loaded";
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> hashOps;
+    private final CartSyncService cartSyncService;
+    private final Executor cartSyncExecutor;
+    private final Duration ttl;
+    // 이메일 -> MySQL 에 아직 쓰지 않은 최신 스냅샷 (항목이 있으면 그 이메일의 동기화 작업이 실행 중이거나 대기 중)
+    private final ConcurrentMap<String, Map<Long, Integer>> pendingSnapshots = new ConcurrentHashMap<>();
+
+    public RedisCartStore(StringRedisTemplate redisTemplate,
+                          CartSyncService cartSyncService,
+                          @Qualifier("cartSyncExecutor") Executor cartSyncExecutor,
+                          @Value("${cart.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.hashOps = redisTemplate.opsForHash();
+        this.cartSyncService = cartSyncService;
+        this.cartSyncExecutor = cartSyncExecutor;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    public Optional<Cart> findByEmail(String email) {
+        ensureLoaded(email);
+        Map<String, String> entries = hashOps.entries(key(email));
+        if (entries.isEmpty()) return Optional.empty();
+        return Optional.of(toCart(email, entries));
+    }
+
+    @Override
+    public Cart addItem(String email, Long productId, int quantity) {
+        ensureLoaded(email);
+        String key = key(email);
+        hashOps.increment(key, productId.toString(), quantity);
+        touch(email);
+        return toCart(email, hashOps.entries(key));
+    }
+
+    @Override
+    public Cart updateQuantity(String email, Long productId, int quantity) {
+        ensureLoaded(email);
+        String key = key(email);
+        if (!hashOps.hasKey(key, productId.toString())) {
+            throw new EntityNotFoundException("해당 상품이 장바구니에 존재하지 않습니다.");
+        }
+
+        if (quantity <= 0) {
+            hashOps.delete(key, productId.toString());
+        } else {
+            hashOps.put(key, productId.toString(), String.valueOf(quantity));
+            touch(email);
+        }
+        return toCart(email, hashOps.entries(key));
+    }
+
+    @Override
+    public Cart removeItem(String email, Long productId) {
+        ensureLoaded(email);
+        String key = key(email);
+        if (hashOps.delete(key, productId.toString()) == 0) {
+            throw new EntityNotFoundException("해당 상품이 장바구니에 존재하지 않습니다.");
+        }
+        return toCart(email, hashOps.entries(key));
+    }
+
+    @Override
+    public void clear(String email) {
+        redisTemplate.delete(key(email));
+        touch(email);
+        syncAsync(email, Map.of());
+    }
+
+    // redis 모드의 장바구니 항목 ID는 상품 ID
+    @Override
+    public void checkout(String email, Collection<Long> cartItemIds) {
+        ensureLoaded(email);
+        String key = key(email);
+        if (!cartItemIds.isEmpty()) {
+            hashOps.delete(key, cartItemIds.stream().map(String::valueOf).toArray());
+        }
+
+        // 주문 시점의 남은 장바구니를 MySQL 에 비동기로 반영 (실패해도 주문에는 영향 없음)
+        syncAsync(email, toQuantities(hashOps.entries(key)));
+    }
+
+    // redis 에 장바구니도 읽어 온 표시도 없으면 MySQL 장바구니로 채운다
+    // 동시에 다른 요청이 담은 수량을 덮어쓰지 않도록 없는 항목만 넣는다 (HSETNX)
+    private void ensureLoaded(String email) {
+        String key = key(email);
+        Long existing = redisTemplate.countExistingKeys(List.of(key, loadedKey(email)));
+        if (existing != null && existing > 0) return;
+
+        Map<Long, Integer> snapshot = cartSyncService.loadSnapshot(email);
+        snapshot.forEach((productId, quantity) ->
+                hashOps.putIfAbsent(key, productId.toString(), String.valueOf(quantity)));
+        touch(email);
+    }
+
+    private void touch(String email) {
+        redisTemplate.expire(key(email), ttl);
+        redisTemplate.opsForValue().set(loadedKey(email), "1", ttl);
+    }
+
+    // 같은 이메일의 스냅샷은 한 번에 하나씩, 가장 최근 것만 쓴다 (스레드 풀에서 순서가 뒤바뀌지 않도록)
+    // 쓰는 동안 새 스냅샷이 들어오면 같은 작업이 이어서 다시 쓴다
+    private void syncAsync(String email, Map<Long, Integer> snapshot) {
+        if (pendingSnapshots.put(email, snapshot) != null) return;
+        try {
+            cartSyncExecutor.execute(() -> drainSnapshots(email));
+        } catch (Exception e) {
+            pendingSnapshots.remove(email);
+            log.warn("장바구니 MySQL 동기화 작업 등록 실패, 스냅샷 유실 email={}: {}", email, e.getMessage());
+        }
+    }
+
+    private void drainSnapshots(String email) {
+        Map<Long, Integer> snapshot;
+        do {
+            snapshot = pendingSnapshots.get(email);
+            try {
+                cartSyncService.saveSnapshot(email, snapshot);
+            } catch (Exception e) {
+                log.warn("장바구니 MySQL 동기화 실패 email={}: {}", email, e.getMessage());
+            }
+        } while (!pendingSnapshots.remove(email, snapshot));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    private String loadedKey(String email) {
+        return KEY_PREFIX + email + LOADED_SUFFIX;
+    }
+
+    private Map<Long, Integer> toQuantities(Map<String, String> entries) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        entries.forEach((productId, quantity) ->
+                quantities.put(Long.valueOf(productId), Integer.parseInt(quantity)));
+        return quantities;
+    }
+
+    // 해시 필드 순서는 보장되지 않으므로 상품 ID 순으로 정렬해서 응답
+    private Cart toCart(String email, Map<String, String> entries) {
+        List<CartItem> items = new ArrayList<>();
+        Cart cart = Cart.builder()
+                .email(email)
+                .items(items)
+                .build();
+        toQuantities(entries).forEach((productId, quantity) -> items.add(CartItem.builder()
+                .id(productId)
+                .productId(productId)
+                .quantity(quantity)
+                .cart(cart)
+                .build()));
+        return cart;
+    }
+}
@@ -4,13 +4,10 @@ import com.playdata.orderingservice.cart.dto.CartItemDto;
 import com.playdata.orderingservice.cart.dto.CartResponseDto;
 import com.playdata.orderingservice.cart.entity.Cart;
 import com.playdata.orderingservice.cart.entity.CartItem;
-import com.playdata.orderingservice.cart.repository.CartRepository;
-import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.cart.repository.CartStore;
+import com.playdata.orderingservice.client.ProductCache;
 import com.playdata.orderingservice.common.auth.TokenUserInfo;
-import com.playdata.orderingservice.common.dto.CommonResDto;
 import com.playdata.orderingservice.ordering.dto.ProductResDto;
-import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,109 +18,59 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final ProductServiceClient productServiceClient;
+    // 저장 방식은 cart.store 설정으로 선택 (jpa: MySQL, redis: Redis 해시)
+    private final CartStore cartStore;
+    private final ProductCache productCache;
 
     // 장바구니 조회
     public CartResponseDto getCart(TokenUserInfo tokenUserInfo) {
         String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
+        Cart cart = cartStore.findByEmail(email)
                 .orElseGet(() -> createEmptyCart(email));
 
-        Map<Long, ProductResDto> productMap = getProductMap(cart);
-
-        return CartResponseDto.from(cart, productMap);
+        return toResponse(cart);
     }
 
     // 장바구니에 상품 추가
     public CartResponseDto addItemToCart(CartItemDto dto, TokenUserInfo tokenUserInfo) {
-        String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
-                .orElseGet(() -> createEmptyCart(email));
-
-        Optional<CartItem> existingItem = cart.getItems().stream()
-                .filter(item -> item.getProductId().equals(dto.getProductId()))
-                .findFirst();
-
-        if (existingItem.isPresent()) {
-            existingItem.get().addQuantity(dto.getQuantity());
-        } else {
-            CartItem item = CartItem.builder()
-                    .productId(dto.getProductId())
-                    .quantity(dto.getQuantity())
-                    .cart(cart)
-                    .build();
-            cart.getItems().add(item);
-        }
-
-        Cart savedCart = cartRepository.save(cart);
-        Map<Long, ProductResDto> productMap = getProductMap(savedCart);
-        return CartResponseDto.from(savedCart, productMap);
+        Cart savedCart = cartStore.addItem(tokenUserInfo.getEmail(), dto.getProductId(), dto.getQuantity());
+        return toResponse(savedCart);
     }
 
     // 장바구니에서 특정 상품 제거
     public CartResponseDto removeItemFromCart(Long productId, TokenUserInfo tokenUserInfo) {
-        String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-
-        cart.getItems().removeIf(item -> item.getProductId().equals(productId));
-
-        Cart savedCart = cartRepository.save(cart);
-        Map<Long, ProductResDto> productMap = getProductMap(savedCart);
-        return CartResponseDto.from(savedCart, productMap);
+        Cart savedCart = cartStore.removeItem(tokenUserInfo.getEmail(), productId);
+        return toResponse(savedCart);
     }
 
     // 장바구니 비우기
     public void clearCart(TokenUserInfo tokenUserInfo) {
-        String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-        cart.getItems().clear(); // 장바구니 항목 비움.
-        cartRepository.save(cart); // 변경사항을 DB에 반영.
+        cartStore.clear(tokenUserInfo.getEmail());
     }
 
-    // 장바구니에서 cartItemIds에 해당하는 아이템만 삭제하는 로직
-    @Transactional
+    // 장바구니에서 cartItemIds에 해당하는 아이템만 삭제하는 로직 (주문 완료 시)
     public void removeCartItems(TokenUserInfo tokenUserInfo, List<Long> cartItemIds) {
-        String userEmail = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-
-        cart.getItems().removeIf(item -> cartItemIds.contains(item.getId()));
-        cartRepository.save(cart);
+        cartStore.checkout(tokenUserInfo.getEmail(), cartItemIds);
     }
 
-
+    // 장바구니에서 선택한 항목만 조회 (상품 정보는 호출한 쪽에서 한 번만 조회하도록 엔티티 그대로 반환)
+    public List<CartItem> getSelectedItems(TokenUserInfo tokenUserInfo, Collection<Long> cartItemIds) {
+        Set<Long> selectedIds = new HashSet<>(cartItemIds);
+        return cartStore.findByEmail(tokenUserInfo.getEmail())
+                .map(cart -> cart.getItems().stream()
+                        .filter(item -> selectedIds.contains(item.getId()))
+                        .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
 
     // 수량 업데이트
     public CartResponseDto updateItemQuantity(Long productId, int quantity, TokenUserInfo tokenUserInfo) {
-        String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-
-        CartItem targetItem = cart.getItems().stream()
-                .filter(item -> item.getProductId().equals(productId))
-                .findFirst()
-                .orElseThrow(() -> new EntityNotFoundException("해당 상품이 장바구니에 존재하지 않습니다."));
-
-        if (quantity <= 0) {
-            cart.getItems().remove(targetItem);
-        } else {
-            targetItem.setQuantity(quantity);
-        }
-
-        Cart savedCart = cartRepository.save(cart);
-        Map<Long, ProductResDto> productMap = getProductMap(savedCart);
-        return CartResponseDto.from(savedCart, productMap);
+        Cart savedCart = cartStore.updateQuantity(tokenUserInfo.getEmail(), productId, quantity);
+        return toResponse(savedCart);
     }
 
     public void removeItemFromCartByProductId(TokenUserInfo tokenUserInfo, Long productId) {
-        String email = tokenUserInfo.getEmail();
-        Cart cart = cartRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("장바구니가 존재하지 않습니다."));
-        cart.getItems().removeIf(item -> item.getProductId().equals(productId));
-        cartRepository.save(cart);
+        cartStore.removeItem(tokenUserInfo.getEmail(), productId);
     }
 
 
@@ -136,6 +83,10 @@ public class CartService {
                 .build();
     }
 
+    private CartResponseDto toResponse(Cart cart) {
+        return CartResponseDto.from(cart, getProductMap(cart));
+    }
+
     private Map<Long, ProductResDto> getProductMap(Cart cart) {
         List<Long> productIds = cart.getItems().stream()
                 .map(CartItem::getProductId)
@@ -144,10 +95,7 @@ public class CartService {
 
         if (productIds.isEmpty()) return Collections.emptyMap();
 
-        CommonResDto<List<ProductResDto>> productResponse = productServiceClient.getProducts(productIds);
-        List<ProductResDto> productList = productResponse.getResult();
-
-        return productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        // 로컬 캐시 우선, 없는 상품만 product-service에 한 번에 요청
+        return productCache.getProducts(productIds);
     }
 }
@@ -0,0 +1,47 @@
+package com.playdata.orderingservice.cart.service;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.repository.CartRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+// redis 장바구니 모드에서 주문 시점의 장바구니 상태를 MySQL carts 테이블에 덮어쓰고,
+// redis 에 장바구니가 없을 때(만료 / 저장소 전환 직후) 다시 읽어 온다
+@Service
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class CartSyncService {
+
+    private final CartRepository cartRepository;
+
+    @Transactional
+    public void saveSnapshot(String email, Map<Long, Integer> quantities) {
+        Cart cart = cartRepository.findByEmail(email)
+                .orElseGet(() -> Cart.builder()
+                        .email(email)
+                        .createdAt(LocalDateTime.now())
+                        .items(new ArrayList<>())
+                        .build());
+
+        cart.getItems().clear();
+        cart.addItems(quantities);
+
+        cartRepository.save(cart);
+    }
+
+    // 상품 ID -> 수량 (장바구니가 없으면 빈 맵)
+    @Transactional
+    public Map<Long, Integer> loadSnapshot(String email) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        cartRepository.findByEmail(email).ifPresent(cart -> cart.getItems()
+                .forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum)));
+        return quantities;
+    }
+}
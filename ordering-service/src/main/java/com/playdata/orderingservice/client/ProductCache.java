@@ -0,0 +1,97 @@
+package com.playdata.orderingservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// product-service 상품 표시 정보(이름, 가격, 이미지, 카테고리)의 로컬 캐시
+// 장바구니/주문 내역 조회 시 캐시에 없는 상품만 한 번의 호출로 가져오고,
+// product-service가 Redis 채널로 보내는 변경 알림을 받으면 해당 상품을 비운다.
+// (stockQuantity는 캐시 시점 값이므로 재고 판단에 쓰지 않는다)
+@Component
+@Slf4j
+public class ProductCache implements MessageListener {
+
+    // product-service의 ProductEventPublisher와 같은 채널 이름
+    public static final String CHANNEL = "product:changed";
+    // 전체 무효화 메시지 (카테고리 이름 변경 등)
+    public static final String ALL = "*";
+
+    private final ProductServiceClient productServiceClient;
+    private final Cache<Long, ProductResDto> cache;
+    // 무효화가 일어날 때마다 증가. 조회 도중 무효화되면 그 응답은 캐시에 넣지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCache(ProductServiceClient productServiceClient,
+                        @Value("${product.cache.ttl-seconds:60}") long ttlSeconds,
+                        @Value("${product.cache.max-size:10000}") long maxSize) {
+        this.productServiceClient = productServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public Map<Long, ProductResDto> getProducts(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        ids.remove(null);
+        if (ids.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, ProductResDto> result = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (!result.containsKey(id)) misses.add(id);
+        }
+        if (misses.isEmpty()) return result;
+
+        long generationBefore = generation.get();
+        List<ProductResDto> response = productServiceClient.getProducts(misses);
+        if (response == null) {
+            throw new RuntimeException("상품 정보 조회 실패");
+        }
+
+        boolean cacheable = generation.get() == generationBefore;
+        for (ProductResDto product : response) {
+            result.put(product.getId(), product);
+            if (cacheable) cache.put(product.getId(), product);
+        }
+        return result;
+    }
+
+    public void evict(Long productId) {
+        generation.incrementAndGet();
+        cache.invalidate(productId);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // Redis 채널 메시지: 상품 ID 또는 "*"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        log.debug("상품 변경 알림 수신: {}", body);
+        if (ALL.equals(body)) {
+            evictAll();
+            return;
+        }
+        try {
+            evict(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 상품 변경 알림: {}", body);
+            evictAll();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.playdata.orderingservice.client;
 import com.playdata.orderingservice.common.dto.CommonResDto;
 import com.playdata.orderingservice.ordering.dto.ProductResDto;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,8 +22,11 @@ public interface ProductServiceClient {
     ResponseEntity<?> updateQuantity(@RequestBody ProductResDto productResDto);
 
     // 여러 상품을 한 번에 조회하는 메서드
-    @PostMapping("/product/products")
-    CommonResDto<List<ProductResDto>> getProducts(@RequestBody List<Long> productIds);
+    // 서비스 간 전용 엔드포인트: 필요한 필드만, 래핑 없이 CBOR 바이너리로 받는다
+    @PostMapping(value = "/product/internal/products",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_CBOR_VALUE)
+    List<ProductResDto> getProducts(@RequestBody List<Long> productIds);
 
     // 상품 취소 처리
     @PutMapping("/product/cancel")
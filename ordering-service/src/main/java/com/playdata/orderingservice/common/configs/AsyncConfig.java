@@ -0,0 +1,51 @@
+package com.playdata.orderingservice.common.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // user-service / product-service 호출을 동시에 보내기 위한 전용 스레드 풀
+    // 풀이 가득 차면 요청 스레드에서 직접 실행 (순차 호출로 자연스럽게 후퇴)
+    @Bean
+    public ThreadPoolTaskExecutor remoteCallExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("remote-call-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // redis 장바구니 모드에서 주문 시점의 장바구니를 MySQL 에 반영하는 백그라운드 작업용
+    // 작업은 이메일별로 하나만 큐에 들어가고(RedisCartStore 에서 최신 스냅샷으로 합침),
+    // 큐가 가득 차면 거절해서 등록하는 쪽이 유실을 로그로 남긴다
+    @Bean
+    public ThreadPoolTaskExecutor cartSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("cart-sync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // 주문 상태 SSE 전송용 (느린 클라이언트의 소켓 쓰기가 Redis 리스너 스레드를 막지 않도록 분리)
+    @Bean
+    public ThreadPoolTaskExecutor sseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("order-sse-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+}
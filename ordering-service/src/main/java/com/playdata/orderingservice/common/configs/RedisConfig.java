@@ -1,5 +1,7 @@
 package com.playdata.orderingservice.common.configs;
 
+import com.playdata.orderingservice.client.ProductCache;
+import com.playdata.orderingservice.ordering.service.OrderStatusStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +9,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -45,6 +49,21 @@ public class RedisConfig {
         return template;
     }
 
+    // product-service의 상품 변경 알림을 받아 로컬 상품 캐시를 비운다
+    // 주문 상태 변경 알림을 받아 이 인스턴스의 SSE 연결로 전달한다
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory factory,
+            ProductCache productCache,
+            OrderStatusStream orderStatusStream
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(productCache, new ChannelTopic(ProductCache.CHANNEL));
+        container.addMessageListener(orderStatusStream, new ChannelTopic(OrderStatusStream.CHANNEL));
+        return container;
+    }
+
 }
 
 
@@ -2,6 +2,7 @@ package com.playdata.orderingservice.common.configs;
 
 import com.playdata.orderingservice.common.auth.JwtAuthFilter;
 import com.playdata.orderingservice.common.exception.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +35,8 @@ public class SecurityConfig {
 
         http.authorizeHttpRequests(auth -> {
             auth
+                    // SSE 응답의 비동기 디스패치는 최초 요청에서 이미 인증을 거쳤음
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers("/actuator/**", "/demo/**","/orders/userOrder").permitAll()
                     .anyRequest().authenticated();
         });
@@ -1,19 +1,29 @@
 package com.playdata.orderingservice.ordering.controller;
 
 import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.common.dto.CommonErrorDto;
 import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.ordering.dto.OrderItemStatusBulkResDto;
+import com.playdata.orderingservice.ordering.dto.OrderItemStatusUpdateDto;
+import com.playdata.orderingservice.ordering.dto.OrderPageResDto;
 import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
 import com.playdata.orderingservice.ordering.dto.OrderResponseDto;
+import com.playdata.orderingservice.ordering.dto.OrderSearchDto;
 import com.playdata.orderingservice.ordering.dto.UpdateAddressRequest;
 import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.service.OrderIdempotencyStore;
 import com.playdata.orderingservice.ordering.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.util.List;
 
@@ -23,24 +33,65 @@ import java.util.List;
 @Slf4j
 public class OrderController {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final OrderService orderService;
+    private final OrderIdempotencyStore orderIdempotencyStore;
 
     // 주문 생성
+    // Idempotency-Key 헤더가 있으면 같은 키의 재시도는 주문을 다시 만들지 않고 처음 응답을 그대로 돌려준다
     @PostMapping("/create")
     public ResponseEntity<?> createOrder(
             @AuthenticationPrincipal TokenUserInfo userInfo, // 로그인된 사용자 정보
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody OrderRequestDto orderRequestDto
     ) {
         log.info("/order/create: POST, userInfo: {}", userInfo);
         log.info("orderRequestDto: {}", orderRequestDto);
 
-        // 이메일을 통해 로그인된 사용자의 정보를 전달하고 주문 생성
-        Order order = orderService.createOrder(orderRequestDto, userInfo);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            // 이메일을 통해 로그인된 사용자의 정보를 전달하고 주문 생성
+            Order order = orderService.createOrder(orderRequestDto, userInfo);
+            return createdResponse(order.getOrderId());
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String email = userInfo.getEmail();
+        OrderIdempotencyStore.Claim claim = orderIdempotencyStore.claim(email, idempotencyKey, orderRequestDto);
+        switch (claim.getState()) {
+            case DONE:
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .header("Idempotent-Replayed", "true")
+                        .body(new CommonResDto(HttpStatus.CREATED, "주문 접수 완료", claim.getOrderId()));
+            case IN_PROGRESS:
+                return new ResponseEntity<>(new CommonErrorDto(HttpStatus.CONFLICT,
+                        "같은 주문 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요."), HttpStatus.CONFLICT);
+            case MISMATCH:
+                return new ResponseEntity<>(new CommonErrorDto(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다."), HttpStatus.UNPROCESSABLE_ENTITY);
+            default:
+                break;
+        }
+
+        Order order;
+        try {
+            order = orderService.createOrder(orderRequestDto, userInfo);
+        } catch (RuntimeException e) {
+            // 주문이 만들어지지 않았으므로 같은 키로 다시 시도할 수 있게 풀어 줌
+            orderIdempotencyStore.release(email, idempotencyKey);
+            throw e;
+        }
+        orderIdempotencyStore.complete(email, idempotencyKey, orderRequestDto, order.getOrderId());
+        return createdResponse(order.getOrderId());
+    }
 
+    private ResponseEntity<?> createdResponse(Long orderId) {
         CommonResDto resDto = new CommonResDto(
                 HttpStatus.CREATED,
-                "정상 주문 완료",
-                order.getOrderId()
+                "주문 접수 완료",
+                orderId
         );
 
         return new ResponseEntity<>(resDto, HttpStatus.CREATED);
@@ -52,6 +103,16 @@ public class OrderController {
         orderService.deleteOrder(orderId, userInfo);
     }
 
+    // 주문 상세(상품) 상태 일괄 변경 (관리자) -> 물류 연동용, 상품 정보 없이 변경 결과만 반환
+    @PutMapping("/items/status")
+    public ResponseEntity<?> updateOrderItemStatuses(
+            @RequestBody List<OrderItemStatusUpdateDto> updates,
+            @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
+        OrderItemStatusBulkResDto result = orderService.updateOrderItemStatuses(updates, userInfo);
+        CommonResDto resDto = new CommonResDto(HttpStatus.OK, "주문 항목 상태 일괄 변경 완료", result);
+        return new ResponseEntity<>(resDto, HttpStatus.OK);
+    }
+
     // 주문 상세(상품) 상태 변경 (관리자,사용자) -> 개별 상품 관리 전용 기능
     @PutMapping("/items/{orderItemId}/status")
     public OrderResponseDto updateOrderItemStatus(
@@ -67,10 +128,47 @@ public class OrderController {
         return orderService.getOrdersByEmail(email, userInfo);
     }
 
-    // 관리자용: 전체 사용자 주문 전체 조회
+    // 사용자의 주문 내역 페이지 조회 (cursor: 이전 페이지의 nextCursor)
+    @GetMapping("/userOrder/page")
+    public ResponseEntity<?> getOrderHistory(@RequestParam String email,
+                                             @RequestParam(required = false) Long cursor,
+                                             @RequestParam(required = false) Integer size,
+                                             @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
+        OrderPageResDto page = orderService.getOrderHistory(email, cursor, size, userInfo);
+        CommonResDto resDto = new CommonResDto(HttpStatus.OK, "주문 내역 조회 완료", page);
+        return new ResponseEntity<>(resDto, HttpStatus.OK);
+    }
+
+    // 관리자용: 전체 사용자 주문 페이지 조회 (cursor: 이전 페이지의 nextCursor)
     @GetMapping("/admin/all")
-    public List<OrderResponseDto> getAllOrders(@AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
-        return orderService.getAllOrders(userInfo);
+    public OrderPageResDto getAllOrders(@RequestParam(required = false) Long cursor,
+                                        @RequestParam(required = false) Integer size,
+                                        @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
+        return orderService.getAllOrders(cursor, size, userInfo);
+    }
+
+    // 관리자용: 상태/기간/이메일 조건 + 커서 페이지 조회
+    // ex) /orders/admin?status=ORDERED&from=2025-01-01&to=2025-01-31&size=50&cursor=1234
+    @GetMapping("/admin")
+    public ResponseEntity<?> searchOrders(OrderSearchDto searchDto,
+                                          @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
+        OrderPageResDto page = orderService.searchOrders(searchDto, userInfo);
+        CommonResDto resDto = new CommonResDto(HttpStatus.OK, "주문 목록 조회 완료", page);
+        return new ResponseEntity<>(resDto, HttpStatus.OK);
+    }
+
+    // 관리자용: 조건에 맞는 주문 내보내기 (format=csv | ndjson)
+    @GetMapping("/admin/export")
+    public void exportOrders(OrderSearchDto searchDto,
+                             @RequestParam(defaultValue = "csv") String format,
+                             @AuthenticationPrincipal TokenUserInfo userInfo,
+                             HttpServletResponse response) throws IOException {
+        boolean csv = !"ndjson".equalsIgnoreCase(format);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"orders." + (csv ? "csv" : "ndjson") + "\"");
+        orderService.exportOrders(searchDto, csv, userInfo, response.getWriter());
     }
 
     // 배송지 변경 요청 (주문 상태가 주문완료 상태일 때만 가능)
@@ -0,0 +1,29 @@
+package com.playdata.orderingservice.ordering.controller;
+
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.ordering.service.OrderStatusStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSubscribeController {
+
+    private final OrderStatusStream orderStatusStream;
+
+    // 주문 상태 변경 실시간 구독 (주문 내역 폴링 대신 사용)
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal TokenUserInfo userInfo, HttpServletResponse response) {
+        log.info("/subscribe: GET, userInfo: {}", userInfo);
+        // nginx 등 앞단 프록시가 이벤트를 모아 두지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+        return orderStatusStream.subscribe(userInfo);
+    }
+}
@@ -0,0 +1,27 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 주문 내보내기용 평탄화 행 (주문 항목 1개 = 1행, 영속성 컨텍스트에 올라가지 않는 DTO 프로젝션)
+@Getter
+@ToString
+@AllArgsConstructor
+public class OrderExportRow {
+    private Long orderId;
+    private LocalDateTime orderedAt;
+    private String email;
+    private OrderStatus orderStatus;
+    private String address;
+    private BigDecimal totalPrice;
+    private Long orderItemId;
+    private Long productId;
+    private int quantity;
+    private BigDecimal unitPrice;
+    private OrderStatus orderItemStatus;
+}
@@ -0,0 +1,26 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import lombok.*;
+
+import java.util.List;
+
+// 주문 항목 상태 일괄 변경 결과 (상품 정보 없이 변경 결과만)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderItemStatusBulkResDto {
+    private int requested; // 요청한 항목 수 (중복 제외)
+    private int updated; // 실제로 상태가 바뀐 항목 수
+    private List<Long> skippedItemIds; // 없는 항목, 이미 같은 상태, 취소/보류 중이라 바꿀 수 없는 항목
+    private List<OrderResult> orders; // 영향받은 주문의 현재 상태
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderResult {
+        private Long orderId;
+        private OrderStatus orderStatus;
+    }
+}
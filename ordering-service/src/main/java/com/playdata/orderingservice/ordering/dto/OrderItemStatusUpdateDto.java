@@ -0,0 +1,13 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+// 주문 항목 상태 일괄 변경 요청 한 줄
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderItemStatusUpdateDto {
+    private Long orderItemId;
+    private String status; // ORDERED, SHIPPED, DELIVERED, RETURNED
+}
@@ -0,0 +1,16 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서 기반 주문 목록 응답 (다음 페이지는 cursor=nextCursor 로 요청)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResDto {
+    private List<OrderResponseDto> orders;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,33 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 관리자 주문 목록/내보내기 검색 조건
+@Setter @Getter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSearchDto {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private String status;  // 주문 상태 (없으면 취소 주문을 제외한 전체)
+    private String email;   // 주문자 이메일
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // 주문일 시작 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;   // 주문일 끝 (포함)
+
+    private Long cursor;    // 이전 페이지의 마지막 주문 ID (없으면 첫 페이지)
+    private Integer size;   // 페이지 크기
+
+    public int resolveSize() {
+        if (size == null || size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+}
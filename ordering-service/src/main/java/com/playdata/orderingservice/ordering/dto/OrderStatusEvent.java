@@ -0,0 +1,43 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 상태 변경 알림 (Redis 채널 order:status 로 인스턴스 간 전달 후 SSE 로 전송)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusEvent {
+    private Long orderId;
+    private String email;
+    private OrderStatus orderStatus;
+    private List<ItemStatus> items;
+    private LocalDateTime changedAt;
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemStatus {
+        private Long orderItemId;
+        private Long productId;
+        private OrderStatus orderStatus;
+    }
+
+    public static OrderStatusEvent of(Order order) {
+        return OrderStatusEvent.builder()
+                .orderId(order.getOrderId())
+                .email(order.getEmail())
+                .orderStatus(order.getOrderStatus())
+                .items(order.getOrderItems().stream()
+                        .map(item -> new ItemStatus(item.getOrderItemId(), item.getProductId(), item.getOrderStatus()))
+                        .collect(Collectors.toList()))
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// product-service 가 order:stock-replies 스트림으로 보내는 재고 명령 처리 결과
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReplyDto {
+    private Long orderId;
+    private String type; // RESERVE, RELEASE
+    private boolean success;
+    private String reason; // OUT_OF_STOCK, NOT_FOUND, ORDER_RELEASED ...
+    private List<Long> failedProductIds;
+}
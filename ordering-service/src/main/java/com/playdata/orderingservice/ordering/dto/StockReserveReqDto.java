@@ -0,0 +1,13 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+// product-service 재고 예약 요청 한 줄
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveReqDto {
+    private Long productId;
+    private int quantity;
+}
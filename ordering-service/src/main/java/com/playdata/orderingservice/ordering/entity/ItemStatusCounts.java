@@ -0,0 +1,65 @@
+package com.playdata.orderingservice.ordering.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.List;
+
+// 주문 항목의 상태별 개수 (주문 행에 저장)
+// 항목 하나가 바뀔 때 개수만 옮기면 되고, "모든 항목이 X" 는 xCount == itemCount 로 판단한다
+@Getter
+@NoArgsConstructor
+@Embeddable
+public class ItemStatusCounts {
+
+    @ColumnDefault("0")
+    @Column(name = "ordered_item_count", nullable = false)
+    private int orderedCount;
+
+    @ColumnDefault("0")
+    @Column(name = "shipped_item_count", nullable = false)
+    private int shippedCount;
+
+    @ColumnDefault("0")
+    @Column(name = "delivered_item_count", nullable = false)
+    private int deliveredCount;
+
+    @ColumnDefault("0")
+    @Column(name = "canceled_item_count", nullable = false)
+    private int canceledCount;
+
+    @ColumnDefault("0")
+    @Column(name = "returned_item_count", nullable = false)
+    private int returnedCount;
+
+    // 항목 목록을 한 번만 훑어서 집계
+    public static ItemStatusCounts of(List<OrderItem> items) {
+        ItemStatusCounts counts = new ItemStatusCounts();
+        for (OrderItem item : items) {
+            counts.add(item.getOrderStatus(), 1);
+        }
+        return counts;
+    }
+
+    // 항목 상태가 from -> to 로 바뀔 때 status 개수의 증감 (집계 대상이 아닌 상태는 0)
+    public static int delta(OrderStatus status, OrderStatus from, OrderStatus to) {
+        return (to == status ? 1 : 0) - (from == status ? 1 : 0);
+    }
+
+    private void add(OrderStatus status, int amount) {
+        if (status == null) return;
+        switch (status) {
+            case ORDERED -> orderedCount += amount;
+            case SHIPPED -> shippedCount += amount;
+            case DELIVERED -> deliveredCount += amount;
+            case CANCELED -> canceledCount += amount;
+            case RETURNED -> returnedCount += amount;
+            default -> {
+                // 보류 상태는 집계하지 않음
+            }
+        }
+    }
+}
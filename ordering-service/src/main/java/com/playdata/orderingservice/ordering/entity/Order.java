@@ -2,6 +2,8 @@ package com.playdata.orderingservice.ordering.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,7 +14,14 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "orders")
+// 상태별 개수는 UPDATE 문으로 직접 바꾸므로, 엔티티 저장 시에는 바뀐 컬럼만 쓴다
+@DynamicUpdate
+@Table(name = "orders", indexes = {
+        // 관리자 주문 목록 (상태 / 이메일 / 기간 조건 + order_id 키셋)
+        @Index(name = "idx_orders_status_id", columnList = "order_status, order_id"),
+        @Index(name = "idx_orders_email_id", columnList = "email, order_id"),
+        @Index(name = "idx_orders_ordered_at", columnList = "ordered_at")
+})
 public class Order {
 
     @Id
@@ -40,8 +49,25 @@ public class Order {
     @Setter
     private String address; // 주소
 
+    // 주문 항목 수 (-1: 상태별 개수 도입 전 주문, OrderItemCountBackfill 이 시작 시 채움)
+    @Builder.Default
+    @ColumnDefault("-1")
+    @Column(name = "item_count", nullable = false)
+    private int itemCount = 0;
+
+    // 주문 항목 상태별 개수
+    @Embedded
+    @Builder.Default
+    private ItemStatusCounts itemStatusCounts = new ItemStatusCounts();
+
     // orphanRemoval = true : 부모 객체에서 자식 객체가 제거되면 자동으로 데이터베이스에서도 삭제됨.
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems; // 1개의 주문 -> 여러 개의 주문 항목
 
+    // 주문 항목 상태를 직접 바꾼 뒤 (주문 접수, 재고 응답, 전체 취소) 상태별 개수를 다시 맞춤
+    public void recountItemStatuses() {
+        this.itemCount = orderItems.size();
+        this.itemStatusCounts = ItemStatusCounts.of(orderItems);
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.playdata.orderingservice.ordering.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 주문 사가 아웃박스: 주문 저장과 같은 트랜잭션에 기록하고 릴레이가 Redis Stream 으로 발행
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_order_outbox", indexes = {
+        // 릴레이가 미발행 이벤트를 id 순으로 조회
+        @Index(name = "idx_order_outbox_status_id", columnList = "status, id")
+})
+public class OrderOutbox {
+
+    public enum EventType {
+        STOCK_RESERVE, // 재고 예약 요청
+        STOCK_RELEASE // 재고 예약 해제 (보상)
+    }
+
+    public enum Status {
+        PENDING, PUBLISHED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private EventType eventType;
+
+    // 주문 항목 (상품ID, 수량) JSON
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Setter
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Setter
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+}
@@ -0,0 +1,123 @@
+package com.playdata.orderingservice.ordering.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.ordering.dto.OrderExportRow;
+import com.playdata.orderingservice.ordering.dto.OrderItemDto;
+import com.playdata.orderingservice.ordering.dto.OrderResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+// 주문 내보내기 행 스트림을 CSV / NDJSON 으로 기록
+// 한 번에 한 행(NDJSON 은 한 주문)만 메모리에 두고 바로 흘려보낸다
+@Component
+@RequiredArgsConstructor
+public class OrderExportWriter {
+
+    private static final String CSV_HEADER =
+            "order_id,ordered_at,email,order_status,address,total_price," +
+            "order_item_id,product_id,quantity,unit_price,order_item_status\n";
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+
+    // 주문 항목 1개 = 1줄
+    public void writeCsv(Iterator<OrderExportRow> rows, Writer writer) {
+        try {
+            writer.write(CSV_HEADER);
+            int count = 0;
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                writer.write(String.join(",",
+                        csv(row.getOrderId()),
+                        csv(row.getOrderedAt()),
+                        csv(row.getEmail()),
+                        csv(row.getOrderStatus()),
+                        csv(row.getAddress()),
+                        csv(row.getTotalPrice()),
+                        csv(row.getOrderItemId()),
+                        csv(row.getProductId()),
+                        csv(row.getQuantity()),
+                        csv(row.getUnitPrice()),
+                        csv(row.getOrderItemStatus())));
+                writer.write('\n');
+                if (++count % FLUSH_INTERVAL == 0) writer.flush();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 주문 1건 = 1줄 (행이 order_id 순으로 정렬되어 있으므로 연속된 행만 묶으면 된다)
+    public void writeNdjson(Iterator<OrderExportRow> rows, Writer writer) {
+        try {
+            OrderResponseDto current = null;
+            int count = 0;
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                if (current == null || !Objects.equals(current.getOrderId(), row.getOrderId())) {
+                    if (current != null) {
+                        writeLine(current, writer);
+                        if (++count % FLUSH_INTERVAL == 0) writer.flush();
+                    }
+                    current = toOrder(row);
+                }
+                current.getOrderItems().add(toItem(row));
+            }
+            if (current != null) writeLine(current, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(OrderResponseDto order, Writer writer) throws IOException {
+        writer.write(objectMapper.writeValueAsString(order));
+        writer.write('\n');
+    }
+
+    private OrderResponseDto toOrder(OrderExportRow row) {
+        List<OrderItemDto> items = new ArrayList<>();
+        return OrderResponseDto.builder()
+                .orderId(row.getOrderId())
+                .totalPrice(row.getTotalPrice())
+                .orderStatus(row.getOrderStatus().name())
+                .orderedAt(row.getOrderedAt())
+                .address(row.getAddress())
+                .email(row.getEmail())
+                .orderItems(items)
+                .build();
+    }
+
+    // 내보내기에서는 상품 정보(이름/이미지/카테고리)를 붙이지 않는다 (상품 서비스 호출 없이 일정한 메모리 유지)
+    private OrderItemDto toItem(OrderExportRow row) {
+        return new OrderItemDto(
+                row.getOrderItemId(),
+                row.getProductId(),
+                row.getQuantity(),
+                row.getUnitPrice(),
+                null,
+                null,
+                null,
+                row.getOrderItemStatus() != null ? row.getOrderItemStatus().name() : null
+        );
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+    private String csv(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
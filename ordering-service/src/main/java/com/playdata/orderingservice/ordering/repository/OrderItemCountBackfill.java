@@ -0,0 +1,45 @@
+package com.playdata.orderingservice.ordering.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 주문 항목 상태별 개수 컬럼 도입 전에 만들어진 주문(item_count = -1)을 시작 시 채운다
+// 주문 상태는 건드리지 않고 개수만 항목 테이블에서 집계하며, 한 번에 BATCH_SIZE 건씩 나눠 잠금 시간을 줄인다.
+// 여러 인스턴스가 동시에 돌아도 같은 값으로 덮어쓰므로 안전하다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderItemCountBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        try {
+            while (true) {
+                List<Long> orderIds = orderRepository.findIdsWithoutItemCount(PageRequest.of(0, BATCH_SIZE));
+                if (orderIds.isEmpty()) break;
+
+                transactionTemplate.executeWithoutResult(status -> orderRepository.recountItemStatuses(orderIds));
+                total += orderIds.size();
+            }
+        } catch (DataAccessException e) {
+            log.error("주문 항목 상태별 개수 채우기 실패 (다음 기동 때 이어서 진행): {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("주문 항목 상태별 개수 채움: {}건", total);
+        }
+    }
+}
@@ -1,10 +1,34 @@
 package com.playdata.orderingservice.ordering.repository;
 
 import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderOrderId(Long orderId);
+
+    // 일괄 상태 변경 전 현재 상태 조회 (엔티티 로딩 없이 필요한 컬럼만)
+    @Query("SELECT i.orderItemId AS orderItemId, i.order.orderId AS orderId, i.orderStatus AS orderStatus " +
+            "FROM OrderItem i WHERE i.orderItemId IN :orderItemIds")
+    List<OrderItemStatusRow> findStatusByOrderItemIdIn(@Param("orderItemIds") Collection<Long> orderItemIds);
+
+    // 같은 상태로 바꿀 항목을 한 번에 변경 (변경 가능한 상태에 있는 항목만)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderItem i SET i.orderStatus = :status " +
+            "WHERE i.orderItemId IN :orderItemIds AND i.orderStatus IN :from AND i.orderStatus <> :status")
+    int updateStatusByOrderItemIdIn(@Param("status") OrderStatus status,
+                                    @Param("orderItemIds") Collection<Long> orderItemIds,
+                                    @Param("from") Collection<OrderStatus> from);
+
+    interface OrderItemStatusRow {
+        Long getOrderItemId();
+        Long getOrderId();
+        OrderStatus getOrderStatus();
+    }
 }
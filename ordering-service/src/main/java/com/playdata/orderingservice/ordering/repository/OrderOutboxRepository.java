@@ -0,0 +1,26 @@
+package com.playdata.orderingservice.ordering.repository;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    // 미발행 이벤트를 id 순으로 가져옴 (SKIP LOCKED: 여러 인스턴스가 같은 행을 중복 발행하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OrderOutbox e WHERE e.status = :status ORDER BY e.id")
+    List<OrderOutbox> findForPublish(@Param("status") OrderOutbox.Status status, Pageable pageable);
+
+    // 발행이 끝난 오래된 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OrderOutbox e WHERE e.status = :status AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OrderOutbox.Status status,
+                              @Param("before") LocalDateTime before);
+}
@@ -1,12 +1,149 @@
 package com.playdata.orderingservice.ordering.repository;
 
+import com.playdata.orderingservice.ordering.dto.OrderExportRow;
 import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     // 이메일로 주문을 찾도록
     List<Order> findAllByEmail(String email);
-}
\ No newline at end of file
+
+    // 사용자 주문 내역: 주문 + 주문 항목을 한 번의 쿼리로, 제외할 상태(취소)는 SQL 에서 거름
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.email = :email AND o.orderStatus <> :excluded ORDER BY o.orderId DESC")
+    List<Order> findWithItemsByEmail(@Param("email") String email,
+                                     @Param("excluded") OrderStatus excluded);
+
+    // 사용자 주문 내역 페이지: 주문 ID만 키셋으로 자른 뒤 findWithItemsByOrderIdIn 으로 한 번에 조회
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.email = :email AND o.orderStatus <> :excluded " +
+            "AND (:cursor IS NULL OR o.orderId < :cursor) " +
+            "ORDER BY o.orderId DESC")
+    List<Long> findHistoryOrderIds(@Param("email") String email,
+                                   @Param("excluded") OrderStatus excluded,
+                                   @Param("cursor") Long cursor,
+                                   Pageable pageable);
+
+    // 주문 단건 + 주문 항목
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderId = :orderId")
+    Optional<Order> findWithItemsByOrderId(@Param("orderId") Long orderId);
+
+    // 재고 예약 응답을 기다리다 시간이 지난 주문 (사가 타임아웃 보상 대상)
+    @Query("SELECT o.orderId FROM Order o WHERE o.orderStatus = :status AND o.orderedAt < :before ORDER BY o.orderId")
+    List<Long> findIdsByOrderStatusAndOrderedAtBefore(@Param("status") OrderStatus status,
+                                                      @Param("before") LocalDateTime before,
+                                                      Pageable pageable);
+
+    // 현재 상태가 from 일 때만 바꿈 (재고 응답 / 타임아웃 / 사용자 취소가 겹쳐도 하나만 1을 받는다)
+    // 갱신된 행은 트랜잭션이 끝날 때까지 잠겨 있으므로, 1을 받은 쪽은 이어서 항목과 개수를 안전하게 바꿀 수 있다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :to WHERE o.orderId = :orderId AND o.orderStatus = :from")
+    int updateStatusIf(@Param("orderId") Long orderId,
+                       @Param("from") OrderStatus from,
+                       @Param("to") OrderStatus to);
+
+    // 주문 항목 하나의 상태 변경을 상태별 개수에 반영하고, 그 결과로 주문 상태를 정함 (문장 하나로 원자적으로)
+    // 주문 상태 대입을 개수 대입보다 먼저 둔다: MySQL 은 SET 을 왼쪽부터 적용하면서 바뀐 값을 참조하므로
+    // 개수를 먼저 바꾸면 증감이 두 번 반영된다. (표준 SQL/H2 는 항상 변경 전 값을 참조)
+    // orders 만 건드리는 UPDATE 라 자동 flush 가 안 되므로, 변경된 주문 항목을 먼저 flush 한 뒤 영속성 컨텍스트를 비운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET " +
+            "o.orderStatus = CASE " +
+            "WHEN o.itemStatusCounts.canceledCount + :canceled = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.CANCELED " +
+            "WHEN o.itemStatusCounts.deliveredCount + :delivered = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.DELIVERED " +
+            "WHEN o.itemStatusCounts.shippedCount + :shipped = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.SHIPPED " +
+            "WHEN o.itemStatusCounts.orderedCount + :ordered = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.ORDERED " +
+            "WHEN o.itemStatusCounts.returnedCount + :returned = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.RETURNED " +
+            "ELSE o.orderStatus END, " +
+            "o.itemStatusCounts.orderedCount = o.itemStatusCounts.orderedCount + :ordered, " +
+            "o.itemStatusCounts.shippedCount = o.itemStatusCounts.shippedCount + :shipped, " +
+            "o.itemStatusCounts.deliveredCount = o.itemStatusCounts.deliveredCount + :delivered, " +
+            "o.itemStatusCounts.canceledCount = o.itemStatusCounts.canceledCount + :canceled, " +
+            "o.itemStatusCounts.returnedCount = o.itemStatusCounts.returnedCount + :returned " +
+            "WHERE o.orderId = :orderId")
+    int moveItemStatus(@Param("orderId") Long orderId,
+                       @Param("ordered") int ordered,
+                       @Param("shipped") int shipped,
+                       @Param("delivered") int delivered,
+                       @Param("canceled") int canceled,
+                       @Param("returned") int returned);
+
+    // 주문 항목 일괄 변경 후 (또는 개수 도입 전 주문) 상태별 개수를 항목 테이블에서 다시 집계
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE orders o SET " +
+            "item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id), " +
+            "ordered_item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id AND i.order_item_status = 'ORDERED'), " +
+            "shipped_item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id AND i.order_item_status = 'SHIPPED'), " +
+            "delivered_item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id AND i.order_item_status = 'DELIVERED'), " +
+            "canceled_item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id AND i.order_item_status = 'CANCELED'), " +
+            "returned_item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.order_id AND i.order_item_status = 'RETURNED') " +
+            "WHERE o.order_id IN (:orderIds)", nativeQuery = true)
+    int recountItemStatuses(@Param("orderIds") Collection<Long> orderIds);
+
+    // 상태별 개수로 주문 상태를 정함: 모든 항목이 같은 상태일 때만 그 상태로
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = CASE " +
+            "WHEN o.itemStatusCounts.canceledCount = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.CANCELED " +
+            "WHEN o.itemStatusCounts.deliveredCount = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.DELIVERED " +
+            "WHEN o.itemStatusCounts.shippedCount = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.SHIPPED " +
+            "WHEN o.itemStatusCounts.orderedCount = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.ORDERED " +
+            "WHEN o.itemStatusCounts.returnedCount = o.itemCount THEN com.playdata.orderingservice.ordering.entity.OrderStatus.RETURNED " +
+            "ELSE o.orderStatus END " +
+            "WHERE o.orderId IN :orderIds")
+    int deriveStatusFromItemCounts(@Param("orderIds") Collection<Long> orderIds);
+
+    // 상태별 개수 도입 전 주문 (item_count = -1)
+    @Query("SELECT o.orderId FROM Order o WHERE o.itemCount < 0 ORDER BY o.orderId")
+    List<Long> findIdsWithoutItemCount(Pageable pageable);
+
+    // 관리자 주문 목록 1단계: 조건에 맞는 주문 ID만 키셋(order_id 내림차순) 방식으로 조회
+    // (컬렉션 fetch join 과 limit 을 같이 쓰면 메모리 페이징이 되므로 ID 조회와 분리)
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.orderStatus IN :statuses " +
+            "AND (:cursor IS NULL OR o.orderId < :cursor) " +
+            "AND (:email IS NULL OR o.email = :email) " +
+            "AND (:from IS NULL OR o.orderedAt >= :from) " +
+            "AND (:to IS NULL OR o.orderedAt < :to) " +
+            "ORDER BY o.orderId DESC")
+    List<Long> findAdminOrderIds(@Param("statuses") Collection<OrderStatus> statuses,
+                                 @Param("cursor") Long cursor,
+                                 @Param("email") String email,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 Pageable pageable);
+
+    // 관리자 주문 목록 2단계: 주문 + 주문 항목을 한 번의 쿼리로 (N+1 방지)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems " +
+            "WHERE o.orderId IN :orderIds ORDER BY o.orderId DESC")
+    List<Order> findWithItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 관리자 내보내기: 주문 항목 단위 행을 커서로 흘려보냄 (MySQL 은 fetch size MIN_VALUE 일 때 행 단위 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.playdata.orderingservice.ordering.dto.OrderExportRow(" +
+            "o.orderId, o.orderedAt, o.email, o.orderStatus, o.address, o.totalPrice, " +
+            "i.orderItemId, i.productId, i.quantity, i.unitPrice, i.orderStatus) " +
+            "FROM OrderItem i JOIN i.order o " +
+            "WHERE o.orderStatus IN :statuses " +
+            "AND (:email IS NULL OR o.email = :email) " +
+            "AND (:from IS NULL OR o.orderedAt >= :from) " +
+            "AND (:to IS NULL OR o.orderedAt < :to) " +
+            "ORDER BY o.orderId DESC, i.orderItemId ASC")
+    Stream<OrderExportRow> streamAdminOrderRows(@Param("statuses") Collection<OrderStatus> statuses,
+                                                @Param("email") String email,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+}
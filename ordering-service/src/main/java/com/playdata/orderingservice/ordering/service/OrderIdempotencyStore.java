@@ -0,0 +1,99 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+// 주문 생성 Idempotency-Key 저장소 (Redis)
+// - 처리 중: "P|요청해시" 를 짧은 TTL 로 SET NX 해서 잠금 (처리 중에 죽어도 TTL 이 지나면 풀림)
+// - 완료   : "D|요청해시|주문ID" 로 덮어써서, 같은 키로 다시 오면 createOrder 를 다시 실행하지 않고 같은 주문ID를 돌려줌
+// 키는 사용자 이메일 단위로 구분한다
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotencyStore {
+
+    private static final String KEY_PREFIX = "order:idem:";
+    private static final String IN_PROGRESS = "P";
+    private static final String DONE = "D";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${order.idempotency.lock-seconds:30}")
+    private long lockSeconds;
+
+    @Value("${order.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    public enum State {
+        ACQUIRED, // 처음 온 요청: 주문 생성 진행
+        IN_PROGRESS, // 같은 키의 요청이 아직 처리 중
+        DONE, // 이미 처리됨: orderId 로 원래 응답 재전송
+        MISMATCH // 같은 키를 다른 요청 내용에 재사용
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Claim {
+        private final State state;
+        private final Long orderId;
+    }
+
+    public Claim claim(String email, String idempotencyKey, OrderRequestDto request) {
+        String key = key(email, idempotencyKey);
+        String fingerprint = fingerprint(request);
+
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, IN_PROGRESS + "|" + fingerprint, Duration.ofSeconds(lockSeconds));
+        if (Boolean.TRUE.equals(acquired)) {
+            return new Claim(State.ACQUIRED, null);
+        }
+
+        String value = stringRedisTemplate.opsForValue().get(key);
+        if (value == null) {
+            // 그 사이 앞선 요청이 실패해 잠금이 풀림: 클라이언트가 다시 시도하도록
+            return new Claim(State.IN_PROGRESS, null);
+        }
+
+        String[] parts = value.split("\\|");
+        if (!parts[1].equals(fingerprint)) {
+            return new Claim(State.MISMATCH, null);
+        }
+        if (DONE.equals(parts[0])) {
+            return new Claim(State.DONE, Long.valueOf(parts[2]));
+        }
+        return new Claim(State.IN_PROGRESS, null);
+    }
+
+    public void complete(String email, String idempotencyKey, OrderRequestDto request, Long orderId) {
+        stringRedisTemplate.opsForValue().set(key(email, idempotencyKey),
+                DONE + "|" + fingerprint(request) + "|" + orderId, Duration.ofHours(ttlHours));
+    }
+
+    // 주문 생성 실패: 같은 키로 다시 시도할 수 있게 잠금 해제
+    public void release(String email, String idempotencyKey) {
+        stringRedisTemplate.delete(key(email, idempotencyKey));
+    }
+
+    private String key(String email, String idempotencyKey) {
+        return KEY_PREFIX + email + ":" + idempotencyKey;
+    }
+
+    private String fingerprint(OrderRequestDto request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
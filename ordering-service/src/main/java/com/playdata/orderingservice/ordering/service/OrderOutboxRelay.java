@@ -0,0 +1,93 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 아웃박스에 쌓인 재고 명령을 Redis Stream(order:stock-commands)으로 발행
+// 발행 후 커밋 전에 죽으면 같은 이벤트가 다시 발행되므로 product-service 는 주문ID+명령 기준으로 중복을 거른다
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    public static final String COMMAND_STREAM = "order:stock-commands";
+    private static final int BATCH_SIZE = 100;
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long streamMaxLength;
+    private final long retentionDays;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            StringRedisTemplate stringRedisTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${order.saga.stream-max-length:100000}") long streamMaxLength,
+                            @Value("${order.saga.outbox-retention-days:7}") long retentionDays) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.streamMaxLength = streamMaxLength;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${order.saga.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == BATCH_SIZE);
+        } catch (Exception e) {
+            // 커밋되지 않은 이벤트는 PENDING 으로 남아 다음 주기에 다시 발행됨
+            log.error("주문 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<OrderOutbox> events = orderOutboxRepository.findForPublish(
+                OrderOutbox.Status.PENDING, PageRequest.of(0, BATCH_SIZE));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OrderOutbox event : events) {
+            Map<String, String> fields = Map.of(
+                    "eventId", String.valueOf(event.getId()),
+                    "orderId", String.valueOf(event.getOrderId()),
+                    "type", event.getEventType() == OrderOutbox.EventType.STOCK_RESERVE ? "RESERVE" : "RELEASE",
+                    "items", event.getPayload()
+            );
+            stringRedisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(COMMAND_STREAM));
+
+            event.setStatus(OrderOutbox.Status.PUBLISHED);
+            event.setPublishedAt(now);
+        }
+
+        // 스트림이 무한히 커지지 않도록 대략적인 길이로 자름
+        stringRedisTemplate.opsForStream().trim(COMMAND_STREAM, streamMaxLength, true);
+        return events.size();
+    }
+
+    // 발행이 끝난 오래된 이벤트 정리
+    @Scheduled(fixedDelayString = "${order.saga.outbox-cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status -> orderOutboxRepository.deletePublishedBefore(
+                OrderOutbox.Status.PUBLISHED, LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료된 주문 이벤트 {}건 정리", deleted);
+        }
+    }
+}
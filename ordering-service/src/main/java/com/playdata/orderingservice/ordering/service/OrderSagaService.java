@@ -0,0 +1,145 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.ordering.dto.OrderStatusEvent;
+import com.playdata.orderingservice.ordering.dto.StockReplyDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveReqDto;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import com.playdata.orderingservice.ordering.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 생성 사가
+// 1. 주문(PENDING_PROD_STOCK_UPDATE) + 재고 예약 이벤트를 한 트랜잭션으로 저장
+// 2. product-service 응답에 따라 ORDERED 또는 CANCELED 로 전이
+// 3. 응답이 오지 않으면 타임아웃으로 취소하고 재고 해제(보상) 이벤트 발행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSagaService {
+
+    private static final int EXPIRE_BATCH_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.saga.reserve-timeout-seconds:300}")
+    private long reserveTimeoutSeconds;
+
+    // 주문 접수: 재고 차감은 product-service 가 비동기로 처리
+    @Transactional
+    public Order placeOrder(Order order) {
+        order.setOrderStatus(OrderStatus.PENDING_PROD_STOCK_UPDATE);
+        order.getOrderItems().forEach(item -> item.setOrderStatus(OrderStatus.PENDING_PROD_STOCK_UPDATE));
+        order.recountItemStatuses();
+        orderRepository.save(order);
+
+        enqueue(order, OrderOutbox.EventType.STOCK_RESERVE);
+        eventPublisher.publishEvent(OrderStatusEvent.of(order));
+        return order;
+    }
+
+    // 재고 응답 대기 중인 주문을 취소하고 재고 해제 요청 (사용자 취소 / 타임아웃)
+    // 그 사이 응답이 먼저 반영되어 대기 상태가 아니면 false
+    @Transactional
+    public boolean cancelPending(Long orderId) {
+        if (orderRepository.updateStatusIf(orderId, OrderStatus.PENDING_PROD_STOCK_UPDATE, OrderStatus.CANCELED) == 0) {
+            return false;
+        }
+        Order order = orderRepository.findWithItemsByOrderId(orderId).orElseThrow();
+        applyItemStatus(order, OrderStatus.CANCELED);
+        enqueue(order, OrderOutbox.EventType.STOCK_RELEASE);
+        return true;
+    }
+
+    // product-service 응답 반영 (같은 응답이 여러 번 와도 상태 전이는 한 번만 일어남)
+    @Transactional
+    public void onStockReply(StockReplyDto reply) {
+        if ("RELEASE".equals(reply.getType())) {
+            log.info("재고 해제 완료. 주문 ID: {}, 결과: {}", reply.getOrderId(), reply.getReason());
+            return;
+        }
+
+        OrderStatus next = reply.isSuccess() ? OrderStatus.ORDERED : OrderStatus.CANCELED;
+        if (orderRepository.updateStatusIf(reply.getOrderId(), OrderStatus.PENDING_PROD_STOCK_UPDATE, next) == 0) {
+            Order order = orderRepository.findWithItemsByOrderId(reply.getOrderId()).orElse(null);
+            if (order == null) {
+                log.warn("재고 응답에 해당하는 주문이 없습니다. 주문 ID: {}", reply.getOrderId());
+            } else if (reply.isSuccess() && order.getOrderStatus() == OrderStatus.CANCELED) {
+                // 응답 대기 중에 취소된 주문의 재고가 뒤늦게 예약되었으면 다시 해제
+                enqueue(order, OrderOutbox.EventType.STOCK_RELEASE);
+            }
+            return;
+        }
+
+        Order order = orderRepository.findWithItemsByOrderId(reply.getOrderId()).orElseThrow();
+        applyItemStatus(order, next);
+
+        if (!reply.isSuccess()) {
+            log.info("재고 예약 실패로 주문 취소. 주문 ID: {}, 사유: {}, 상품ID: {}",
+                    order.getOrderId(), reply.getReason(), reply.getFailedProductIds());
+        }
+    }
+
+    // 재고 응답을 기다리다 시간이 지난 주문은 취소하고 재고 해제 요청
+    @Scheduled(fixedDelayString = "${order.saga.timeout-check-interval-ms:60000}")
+    @Transactional
+    public void expirePendingOrders() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(reserveTimeoutSeconds);
+        List<Long> expiredIds = orderRepository.findIdsByOrderStatusAndOrderedAtBefore(
+                OrderStatus.PENDING_PROD_STOCK_UPDATE, before, PageRequest.of(0, EXPIRE_BATCH_SIZE));
+
+        int canceled = 0;
+        for (Long orderId : expiredIds) {
+            if (cancelPending(orderId)) {
+                canceled++;
+            }
+        }
+        if (canceled > 0) {
+            log.warn("재고 응답 대기 시간 초과로 주문 {}건 취소", canceled);
+        }
+    }
+
+    // 주문 상태는 조건부 UPDATE 로 이미 바뀌었으므로 항목 상태와 상태별 개수를 맞춘다
+    private void applyItemStatus(Order order, OrderStatus status) {
+        order.getOrderItems().forEach(item -> item.setOrderStatus(status));
+        order.recountItemStatuses();
+        eventPublisher.publishEvent(OrderStatusEvent.of(order));
+    }
+
+    private void enqueue(Order order, OrderOutbox.EventType eventType) {
+        List<StockReserveReqDto> items = order.getOrderItems().stream()
+                .map(item -> new StockReserveReqDto(item.getProductId(), item.getQuantity()))
+                .collect(Collectors.toList());
+
+        orderOutboxRepository.save(OrderOutbox.builder()
+                .orderId(order.getOrderId())
+                .eventType(eventType)
+                .payload(toJson(items))
+                .build());
+    }
+
+    private String toJson(List<StockReserveReqDto> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재고 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package com.playdata.orderingservice.ordering.service;
 
+import com.playdata.orderingservice.client.ProductCache;
 import com.playdata.orderingservice.client.ProductServiceClient;
 import com.playdata.orderingservice.client.UserServiceClient;
 import com.playdata.orderingservice.common.auth.Role;
 import com.playdata.orderingservice.common.auth.TokenUserInfo;
 import com.playdata.orderingservice.common.dto.CommonResDto;
 import com.playdata.orderingservice.ordering.dto.*;
+import com.playdata.orderingservice.ordering.entity.ItemStatusCounts;
 import com.playdata.orderingservice.ordering.entity.Order;
 import com.playdata.orderingservice.ordering.entity.OrderItem;
 import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.mapper.OrderExportWriter;
 import com.playdata.orderingservice.ordering.mapper.OrderMapper;
 import com.playdata.orderingservice.ordering.repository.OrderItemRepository;
 import com.playdata.orderingservice.ordering.repository.OrderRepository;
+import com.playdata.orderingservice.cart.entity.CartItem;
 import com.playdata.orderingservice.cart.service.CartService;
-import com.playdata.orderingservice.cart.dto.CartResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
@@ -31,12 +44,23 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    // 주문 항목 일괄 상태 변경: 한 번에 받을 최대 건수와 허용 상태
+    private static final int MAX_BULK_STATUS_UPDATES = 1000;
+    private static final Set<OrderStatus> BULK_ITEM_STATUSES = EnumSet.of(
+            OrderStatus.ORDERED, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.RETURNED);
+
     private final OrderRepository orderRepository;
+    private final OrderSagaService orderSagaService;
     private final OrderMapper orderMapper;
+    private final OrderExportWriter orderExportWriter;
     private final UserServiceClient userServiceClient;
     private final ProductServiceClient productServiceClient;
+    private final ProductCache productCache;
     private final CartService cartService;
     private final OrderItemRepository orderItemRepository;
+    private final CircuitBreakerFactory circuitBreakerFactory;
+    private final Executor remoteCallExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Order createOrder(OrderRequestDto orderRequestDto, TokenUserInfo tokenUserInfo) {
         String userEmail = tokenUserInfo.getEmail();
@@ -44,55 +68,49 @@ public class OrderService {
             throw new RuntimeException("토큰에서 사용자 정보를 가져올 수 없습니다.");
         }
 
-        // 사용자 주소 조회
-        CommonResDto<UserResDto> userResponse = userServiceClient.findByEmail(userEmail);
-        if (userResponse == null || userResponse.getResult() == null) {
-            throw new RuntimeException("사용자 정보가 없습니다.");
-        }
-        String defaultAddress = userResponse.getResult().getAddress();
-
-        // 주소 결정: 요청 주소 없으면 기본주소 사용
-        String address = orderRequestDto.getAddress();
-        if (address == null || address.isBlank()) {
-            address = defaultAddress;
-        }
+        // 사용자 주소 조회는 상품 조회와 서로 독립적이므로 먼저 비동기로 보내 두고 겹쳐서 기다린다
+        CompletableFuture<UserResDto> userFuture = CompletableFuture.supplyAsync(
+                () -> circuitBreakerFactory.create("userService").run(() -> {
+                    CommonResDto<UserResDto> userResponse = userServiceClient.findByEmail(userEmail);
+                    if (userResponse == null || userResponse.getResult() == null) {
+                        throw new RuntimeException("사용자 정보가 없습니다.");
+                    }
+                    return userResponse.getResult();
+                }),
+                remoteCallExecutor
+        );
 
         List<OrderItem> orderItems;
-        Map<Long, ProductResDto> productMap;
+        Runnable cartCleanup;
 
         // 1) 장바구니 주문
         if (orderRequestDto.getCartItemIds() != null && !orderRequestDto.getCartItemIds().isEmpty()) {
-            CartResponseDto cartResponse = cartService.getCart(tokenUserInfo);
-            List<CartResponseDto.CartItemDetailDto> allCartItems = cartResponse.getItems();
-
             List<Long> selectedCartItemIds = orderRequestDto.getCartItemIds();
 
-            List<CartResponseDto.CartItemDetailDto> selectedCartItems = allCartItems.stream()
-                    .filter(item -> selectedCartItemIds.contains(item.getCartItemId()))
-                    .collect(Collectors.toList());
+            // 장바구니 엔티티만 읽고, 상품 정보는 아래에서 한 번만 조회해서 재사용
+            List<CartItem> selectedCartItems = cartService.getSelectedItems(tokenUserInfo, selectedCartItemIds);
 
             if (selectedCartItems.isEmpty()) {
                 throw new RuntimeException("선택한 장바구니 아이템이 존재하지 않습니다.");
             }
 
             List<Long> productIds = selectedCartItems.stream()
-                    .map(CartResponseDto.CartItemDetailDto::getProductId)
+                    .map(CartItem::getProductId)
+                    .distinct()
                     .collect(Collectors.toList());
 
-            List<ProductResDto> productList = getProductsByIds(productIds);
-            productMap = productList.stream()
-                    .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+            Map<Long, ProductResDto> productMap = getProductMap(productIds);
 
             orderItems = new ArrayList<>(
                     selectedCartItems.stream()
-                            .map(dto -> {
-                                ProductResDto product = productMap.get(dto.getProductId());
+                            .map(cartItem -> {
+                                ProductResDto product = productMap.get(cartItem.getProductId());
                                 if (product == null) {
-                                    throw new RuntimeException("상품 정보를 찾을 수 없습니다. ID: " + dto.getProductId());
+                                    throw new RuntimeException("상품 정보를 찾을 수 없습니다. ID: " + cartItem.getProductId());
                                 }
                                 return OrderItem.builder()
-                                        .productId(dto.getProductId())
-                                        .quantity(dto.getQuantity())
+                                        .productId(cartItem.getProductId())
+                                        .quantity(cartItem.getQuantity())
                                         .unitPrice(BigDecimal.valueOf(product.getPrice()))
                                         .build();
                             })
@@ -100,7 +118,7 @@ public class OrderService {
             );
 
             // 장바구니에서 주문한 아이템만 삭제
-            cartService.removeCartItems(tokenUserInfo, selectedCartItemIds);
+            cartCleanup = () -> cartService.removeCartItems(tokenUserInfo, selectedCartItemIds);
 
         }
         // 2) 바로 주문
@@ -108,13 +126,10 @@ public class OrderService {
             Long productId = orderRequestDto.getDirectProductId();
             int quantity = orderRequestDto.getQuantity();
 
-            List<ProductResDto> productList = getProductsByIds(List.of(productId));
-            if (productList.isEmpty()) {
+            ProductResDto product = getProductMap(List.of(productId)).get(productId);
+            if (product == null) {
                 throw new RuntimeException("상품 정보를 찾을 수 없습니다. ID: " + productId);
             }
-            ProductResDto product = productList.get(0);
-
-            productMap = Map.of(productId, product);
 
             orderItems = new ArrayList<>(
                     List.of(
@@ -127,16 +142,32 @@ public class OrderService {
             );
 
             // 여기서 바로구매 시 장바구니에 있으면 삭제 처리 (수정)
-            try {
-                cartService.removeItemFromCartByProductId(tokenUserInfo, productId);
-            } catch (Exception e) {
-                log.warn("바로구매 후 장바구니 아이템 삭제 실패: {}", e.getMessage());
-            }
+            cartCleanup = () -> {
+                try {
+                    cartService.removeItemFromCartByProductId(tokenUserInfo, productId);
+                } catch (EntityNotFoundException e) {
+                    // 장바구니에 없던 상품이면 지울 것도 없음
+                } catch (Exception e) {
+                    log.warn("바로구매 후 장바구니 아이템 삭제 실패: {}", e.getMessage());
+                }
+            };
 
         } else {
             throw new IllegalArgumentException("주문할 상품 정보가 없습니다.");
         }
 
+        // 사용자 조회 결과 합류 (상품 조회와 겹쳐서 진행됐으므로 대기 시간은 둘 중 긴 쪽만큼)
+        String defaultAddress = awaitUser(userFuture).getAddress();
+
+        // 주소 결정: 요청 주소 없으면 기본주소 사용
+        String address = orderRequestDto.getAddress();
+        if (address == null || address.isBlank()) {
+            address = defaultAddress;
+        }
+
+        // 사용자 확인이 끝난 뒤에 장바구니 정리
+        cartCleanup.run();
+
         // 총 가격 계산
         BigDecimal totalPrice = orderItems.stream()
                 .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
@@ -155,36 +186,15 @@ public class OrderService {
         // 양방향 관계 설정
         orderItems.forEach(item -> item.setOrder(order));
 
-        orderRepository.save(order);
-
-        // 상품 수량 감소 요청
-        orderItems.forEach(item -> {
-            ProductResDto product = productMap.get(item.getProductId());
-            if (product != null) {
-                int newQuantity = product.getStockQuantity() - item.getQuantity();
-                if (newQuantity < 0) {
-                    throw new RuntimeException("상품 재고가 부족합니다. 상품ID: " + product.getId());
-                }
-                product.setStockQuantity(newQuantity);
-
-                try {
-                    productServiceClient.updateQuantity(product);
-                } catch (Exception e) {
-                    log.error("상품 수량 업데이트 실패: {}", e.getMessage());
-                    throw new RuntimeException("상품 수량 업데이트 실패");
-                }
-            }
-        });
-
-        // 주문 상태 업데이트
-        order.setOrderStatus(OrderStatus.ORDERED);
-        orderItems.forEach(item -> item.setOrderStatus(OrderStatus.ORDERED));
-        orderRepository.save(order);
+        // 주문 + 재고 예약 이벤트를 한 트랜잭션으로 저장하고 바로 반환
+        // (재고 차감 결과는 StockReplyListener 가 받아 ORDERED / CANCELED 로 반영)
+        orderSagaService.placeOrder(order);
 
         return order;
     }
 
     // 사용자 전체 주문 조회
+    @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByEmail(String email, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
         // 관리자 권한 체크
         if (!isAdmin(tokenUserInfo)) {
@@ -194,10 +204,37 @@ public class OrderService {
             }
         }
 
-        List<Order> orders = orderRepository.findAllByEmail(email).stream()
-                .filter(order -> order.getOrderStatus() != OrderStatus.CANCELED)
-                .collect(Collectors.toList());
+        // 주문과 주문 항목을 한 번에 조회 (취소 주문은 SQL 에서 제외)
+        List<Order> orders = orderRepository.findWithItemsByEmail(email, OrderStatus.CANCELED);
+
+        return toDtos(orders);
+    }
+
+    // 사용자 주문 내역 페이지 조회 (주문 수와 상관없이 쿼리 2번: ID 페이지 + fetch join)
+    @Transactional(readOnly = true)
+    public OrderPageResDto getOrderHistory(String email, Long cursor, Integer size, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
+        if (!isAdmin(tokenUserInfo) && !email.equals(tokenUserInfo.getEmail())) {
+            throw new AccessDeniedException("자기 자신의 주문만 조회할 수 있습니다.");
+        }
+
+        int pageSize = OrderSearchDto.builder().size(size).build().resolveSize();
+        List<Long> orderIds = orderRepository.findHistoryOrderIds(
+                email, OrderStatus.CANCELED, cursor, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = orderIds.size() > pageSize;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, pageSize);
+        }
+        if (orderIds.isEmpty()) {
+            return new OrderPageResDto(List.of(), null, false);
+        }
+
+        List<OrderResponseDto> result = toDtos(orderRepository.findWithItemsByOrderIdIn(orderIds));
+        return new OrderPageResDto(result, hasNext ? orderIds.get(orderIds.size() - 1) : null, hasNext);
+    }
 
+    // 주문 항목이 이미 로딩된 주문 목록을 상품 정보와 함께 DTO 로 변환
+    private List<OrderResponseDto> toDtos(List<Order> orders) {
         // 모든 주문에서 상품 ID만 추출
         List<Long> productIds = orders.stream()
                 .flatMap(order -> order.getOrderItems().stream())
@@ -205,22 +242,18 @@ public class OrderService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 상품 정보 조회
-        List<ProductResDto> productList = getProductsByIds(productIds);
+        // 상품 정보 조회 (로컬 캐시 우선, 없는 것만 product-service에 한 번에 요청)
+        Map<Long, ProductResDto> productMap = productCache.getProducts(productIds);
 
-        // 상품 정보를 Map으로 변환 (ID -> ProductResDto)
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
-
-        // 주문 DTO 반환
         return orders.stream()
                 .map(order -> orderMapper.toDto(order, productMap)) // 상품 정보를 포함하여 변환
                 .collect(Collectors.toList());
     }
 
     // 주문 단건 조회
+    @Transactional(readOnly = true)
     public OrderResponseDto getOrder(Long orderId, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsByOrderId(orderId)
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다. 주문 ID: " + orderId));
 
         // 관리자 권한 체크
@@ -233,12 +266,8 @@ public class OrderService {
                 .map(OrderItem::getProductId)
                 .collect(Collectors.toList());
 
-        // 상품 정보 조회
-        List<ProductResDto> productList = getProductsByIds(productIds);
-
-        // 상품 정보를 Map으로 변환 (ID -> ProductResDto)
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        // 상품 정보 조회 (로컬 캐시 우선, 없는 것만 product-service에 한 번에 요청)
+        Map<Long, ProductResDto> productMap = productCache.getProducts(productIds);
 
         return orderMapper.toDto(order, productMap); // 상품 정보를 포함하여 변환
     }
@@ -257,6 +286,19 @@ public class OrderService {
             throw new IllegalStateException("이미 취소된 주문입니다.");
         }
 
+        // 재고 예약 응답 대기 중인 주문은 로컬에서 취소하고 해제 이벤트로 보상
+        if (order.getOrderStatus() == OrderStatus.PENDING_PROD_STOCK_UPDATE) {
+            if (orderSagaService.cancelPending(orderId)) {
+                return;
+            }
+            // 그 사이 재고 응답이 먼저 반영됨: 바뀐 상태로 다시 판단
+            order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 주문이 존재하지 않습니다."));
+            if (order.getOrderStatus() == OrderStatus.CANCELED) {
+                throw new IllegalStateException("이미 취소된 주문입니다.");
+            }
+        }
+
         // 1. 주문 항목별 상품ID와 수량을 Map에 담아서 재고 수량 증가 요청
         Map<Long, Integer> cancelMap = new HashMap<>();
         for (OrderItem item : order.getOrderItems()) {
@@ -278,36 +320,99 @@ public class OrderService {
 
         // 3. 주문 상태 CANCELED로 변경 및 저장
         order.setOrderStatus(OrderStatus.CANCELED);
+        order.recountItemStatuses();
         orderRepository.save(order);
+        eventPublisher.publishEvent(OrderStatusEvent.of(order));
+    }
+
+    // 관리자 페이지 전용 주문 관리 기능 (취소 주문 제외, 커서 기반 페이지 조회)
+    @Transactional(readOnly = true)
+    public OrderPageResDto getAllOrders(Long cursor, Integer size, TokenUserInfo userInfo) throws AccessDeniedException {
+        return searchOrders(OrderSearchDto.builder().cursor(cursor).size(size).build(), userInfo);
     }
 
-    // 관리자 페이지 전용 주문 관리 기능
-    public List<OrderResponseDto> getAllOrders(TokenUserInfo userInfo) throws AccessDeniedException {
+    // 관리자용: 조건 검색 + 커서 기반 페이지 조회 (필터와 정렬은 모두 DB 에서)
+    @Transactional(readOnly = true)
+    public OrderPageResDto searchOrders(OrderSearchDto search, TokenUserInfo userInfo) throws AccessDeniedException {
         if (!isAdmin(userInfo)) {
             throw new AccessDeniedException("관리자만 전체 주문을 조회할 수 있습니다.");
         }
 
-        List<Order> orders = orderRepository.findAll().stream()
-                .filter(order -> order.getOrderStatus() != OrderStatus.CANCELED)
-                .collect(Collectors.toList());
+        int size = search.resolveSize();
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        List<Long> orderIds = orderRepository.findAdminOrderIds(
+                resolveStatuses(search.getStatus()),
+                search.getCursor(),
+                blankToNull(search.getEmail()),
+                startOf(search.getFrom()),
+                endOf(search.getTo()),
+                PageRequest.of(0, size + 1)
+        );
+
+        boolean hasNext = orderIds.size() > size;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, size);
+        }
+        if (orderIds.isEmpty()) {
+            return new OrderPageResDto(List.of(), null, false);
+        }
 
-        List<Long> productIds = orders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(OrderItem::getProductId)
-                .distinct()
-                .collect(Collectors.toList());
+        // 상품 정보는 현재 페이지에 등장하는 상품만 조회
+        List<OrderResponseDto> result = toDtos(orderRepository.findWithItemsByOrderIdIn(orderIds));
 
-        List<ProductResDto> productList = getProductsByIds(productIds);
+        return new OrderPageResDto(result, hasNext ? orderIds.get(orderIds.size() - 1) : null, hasNext);
+    }
 
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+    // 관리자용: 조건에 맞는 주문 전체를 CSV / NDJSON 으로 스트리밍 (스트림이 열려 있는 동안 트랜잭션 유지)
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderSearchDto search, boolean csv, TokenUserInfo userInfo, Writer writer) throws AccessDeniedException {
+        if (!isAdmin(userInfo)) {
+            throw new AccessDeniedException("관리자만 주문을 내보낼 수 있습니다.");
+        }
 
-        return orders.stream()
-                .map(order -> orderMapper.toDto(order, productMap))
-                .collect(Collectors.toList());
+        try (Stream<OrderExportRow> rows = orderRepository.streamAdminOrderRows(
+                resolveStatuses(search.getStatus()),
+                blankToNull(search.getEmail()),
+                startOf(search.getFrom()),
+                endOf(search.getTo()))) {
+            if (csv) {
+                orderExportWriter.writeCsv(rows.iterator(), writer);
+            } else {
+                orderExportWriter.writeNdjson(rows.iterator(), writer);
+            }
+        }
+    }
+
+    // 상태 조건이 없으면 기존 전체 조회처럼 취소 주문만 제외
+    private List<OrderStatus> resolveStatuses(String status) {
+        if (status == null || status.isBlank()) {
+            return Arrays.stream(OrderStatus.values())
+                    .filter(s -> s != OrderStatus.CANCELED)
+                    .collect(Collectors.toList());
+        }
+        try {
+            return List.of(OrderStatus.valueOf(status.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 주문 상태입니다: " + status);
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+
+    // 종료일은 포함이므로 다음 날 0시 미만으로 비교
+    private LocalDateTime endOf(LocalDate date) {
+        return date == null ? null : date.plusDays(1).atStartOfDay();
     }
 
     // 개별 상품 취소
+    // 항목 상태 변경과 주문의 상태별 개수 UPDATE 가 한 트랜잭션에서 같이 반영되어야 한다
+    @Transactional
     public OrderResponseDto updateOrderItemStatus(Long orderItemId, String status, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
         // 1. 주문 항목 조회
         OrderItem orderItem = orderItemRepository.findById(orderItemId)
@@ -329,12 +434,20 @@ public class OrderService {
             throw new IllegalArgumentException("잘못된 주문 상태입니다: " + status);
         }
 
-        // 5. 이미 같은 상태일 경우 예외 처리
+        // 5. 재고 예약 대기 상태는 사가만 바꾸므로 대기 중인 주문이거나 대기 상태로 바꾸는 요청은 거부 (대기 주문 취소는 deleteOrder 로)
+        if (orderItem.getOrderStatus() == OrderStatus.PENDING_PROD_STOCK_UPDATE
+                || order.getOrderStatus() == OrderStatus.PENDING_PROD_STOCK_UPDATE
+                || newStatus == OrderStatus.PENDING_PROD_STOCK_UPDATE) {
+            throw new IllegalStateException("재고 확인 중인 주문은 항목 상태를 변경할 수 없습니다.");
+        }
+
+        // 5-1. 이미 같은 상태일 경우 예외 처리
         if (orderItem.getOrderStatus() == newStatus) {
             throw new IllegalStateException("이미 해당 상태로 설정되어 있습니다.");
         }
 
         // 6. 주문 항목 상태 변경
+        OrderStatus previousStatus = orderItem.getOrderStatus();
         orderItem.setOrderStatus(newStatus);
         orderItemRepository.save(orderItem);
 
@@ -351,58 +464,99 @@ public class OrderService {
             }
         }
 
-        // 7. 전체 주문 상태 업데이트 로직 (다양한 상태 반영)
-        List<OrderItem> orderItems = orderItemRepository.findByOrderOrderId(order.getOrderId());
-        updateOrderStatusBasedOnItems(order, orderItems);
+        // 7. 주문의 상태별 항목 개수를 옮기고 그 결과로 주문 상태를 정함 (다른 항목을 읽지 않고 UPDATE 한 번)
+        orderRepository.moveItemStatus(order.getOrderId(),
+                ItemStatusCounts.delta(OrderStatus.ORDERED, previousStatus, newStatus),
+                ItemStatusCounts.delta(OrderStatus.SHIPPED, previousStatus, newStatus),
+                ItemStatusCounts.delta(OrderStatus.DELIVERED, previousStatus, newStatus),
+                ItemStatusCounts.delta(OrderStatus.CANCELED, previousStatus, newStatus),
+                ItemStatusCounts.delta(OrderStatus.RETURNED, previousStatus, newStatus));
 
-        // 8. 변경된 주문 정보를 반환 (상품 정보 포함)
-        List<Long> productIds = orderItems.stream()
+        // 8. 변경된 주문 정보를 반환 (주문 + 항목 한 번에 다시 조회, 상품 정보 포함)
+        Order updated = orderRepository.findWithItemsByOrderId(order.getOrderId())
+                .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다. 주문 ID: " + order.getOrderId()));
+        eventPublisher.publishEvent(OrderStatusEvent.of(updated));
+
+        List<Long> productIds = updated.getOrderItems().stream()
                 .map(OrderItem::getProductId)
                 .distinct()
                 .collect(Collectors.toList());
 
-        List<ProductResDto> productList = getProductsByIds(productIds);
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        Map<Long, ProductResDto> productMap = productCache.getProducts(productIds);
 
-        return orderMapper.toDto(order, productMap);
+        return orderMapper.toDto(updated, productMap);
     }
 
-    // 별도 메서드로 분리한 주문 상태 업데이트 로직
-    private void updateOrderStatusBasedOnItems(Order order, List<OrderItem> orderItems) {
-        // 모든 항목이 취소 상태
-        boolean allCanceled = orderItems.stream()
-                .allMatch(item -> item.getOrderStatus() == OrderStatus.CANCELED);
-
-        // 모든 항목이 배송 완료 상태
-        boolean allDelivered = orderItems.stream()
-                .allMatch(item -> item.getOrderStatus() == OrderStatus.DELIVERED);
-
-        // 모든 항목이 배송중 상태
-        boolean allShipped = orderItems.stream()
-                .allMatch(item -> item.getOrderStatus() == OrderStatus.SHIPPED);
-
-        // 모든 항목이 주문 완료 상태
-        boolean allOrdered = orderItems.stream()
-                .allMatch(item -> item.getOrderStatus() == OrderStatus.ORDERED);
-
-        // 모든 항목이 반품 완료 상태
-        boolean allReturned = orderItems.stream()
-                .allMatch(item -> item.getOrderStatus() == OrderStatus.RETURNED);
-
-        // 조건에 맞게 주문 상태 변경 (전부 같은 상태일 때만 변경)
-        if (allCanceled) {
-            order.setOrderStatus(OrderStatus.CANCELED);
-        } else if (allDelivered) {
-            order.setOrderStatus(OrderStatus.DELIVERED);
-        } else if (allShipped) {
-            order.setOrderStatus(OrderStatus.SHIPPED);
-        } else if (allOrdered) {
-            order.setOrderStatus(OrderStatus.ORDERED);
-        } else if (allReturned) {
-            order.setOrderStatus(OrderStatus.RETURNED);
+    // 주문 항목 상태 일괄 변경 (물류 연동용, 관리자 전용)
+    // 항목은 목표 상태별 UPDATE 한 번씩, 주문 상태는 상태별 개수 재집계 + 판정 UPDATE 로 정하고 상품 정보는 붙이지 않는다
+    @Transactional
+    public OrderItemStatusBulkResDto updateOrderItemStatuses(List<OrderItemStatusUpdateDto> updates, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
+        if (!isAdmin(tokenUserInfo)) {
+            throw new AccessDeniedException("관리자만 주문 항목 상태를 일괄 변경할 수 있습니다.");
         }
-        orderRepository.save(order);
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("변경할 주문 항목이 없습니다.");
+        }
+        if (updates.size() > MAX_BULK_STATUS_UPDATES) {
+            throw new IllegalArgumentException("한 번에 " + MAX_BULK_STATUS_UPDATES + "건까지 변경할 수 있습니다.");
+        }
+
+        // 같은 항목이 여러 번 오면 마지막 요청을 따름
+        Map<Long, OrderStatus> requested = new LinkedHashMap<>();
+        for (OrderItemStatusUpdateDto update : updates) {
+            if (update.getOrderItemId() == null || update.getStatus() == null) {
+                throw new IllegalArgumentException("잘못된 요청입니다: " + update);
+            }
+            OrderStatus status;
+            try {
+                status = OrderStatus.valueOf(update.getStatus());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 주문 상태입니다: " + update.getStatus());
+            }
+            // 취소는 재고 복구가 필요하므로 개별 변경 API 로만
+            if (!BULK_ITEM_STATUSES.contains(status)) {
+                throw new IllegalArgumentException("일괄 변경할 수 없는 상태입니다: " + status);
+            }
+            requested.put(update.getOrderItemId(), status);
+        }
+
+        // 현재 상태를 한 번에 조회해서 실제로 바뀔 항목만 목표 상태별로 묶음
+        Map<OrderStatus, List<Long>> itemIdsByStatus = new EnumMap<>(OrderStatus.class);
+        Set<Long> orderIds = new HashSet<>();
+        for (OrderItemRepository.OrderItemStatusRow row : orderItemRepository.findStatusByOrderItemIdIn(requested.keySet())) {
+            OrderStatus target = requested.get(row.getOrderItemId());
+            if (BULK_ITEM_STATUSES.contains(row.getOrderStatus()) && row.getOrderStatus() != target) {
+                itemIdsByStatus.computeIfAbsent(target, k -> new ArrayList<>()).add(row.getOrderItemId());
+                orderIds.add(row.getOrderId());
+            }
+        }
+
+        int updated = 0;
+        Set<Long> changedItemIds = new HashSet<>();
+        for (Map.Entry<OrderStatus, List<Long>> entry : itemIdsByStatus.entrySet()) {
+            updated += orderItemRepository.updateStatusByOrderItemIdIn(entry.getKey(), entry.getValue(), BULK_ITEM_STATUSES);
+            changedItemIds.addAll(entry.getValue());
+        }
+        List<Long> skipped = requested.keySet().stream()
+                .filter(id -> !changedItemIds.contains(id))
+                .collect(Collectors.toList());
+
+        if (orderIds.isEmpty()) {
+            return new OrderItemStatusBulkResDto(requested.size(), 0, skipped, List.of());
+        }
+
+        // 영향받은 주문의 상태별 항목 개수를 다시 집계하고, 모든 항목이 같은 상태가 된 주문만 그 상태로 변경
+        orderRepository.recountItemStatuses(orderIds);
+        orderRepository.deriveStatusFromItemCounts(orderIds);
+
+        // 상태 변경 알림 + 응답 (주문과 항목을 한 번에 조회)
+        List<Order> orders = orderRepository.findWithItemsByOrderIdIn(orderIds);
+        orders.forEach(order -> eventPublisher.publishEvent(OrderStatusEvent.of(order)));
+
+        List<OrderItemStatusBulkResDto.OrderResult> results = orders.stream()
+                .map(order -> new OrderItemStatusBulkResDto.OrderResult(order.getOrderId(), order.getOrderStatus()))
+                .collect(Collectors.toList());
+        return new OrderItemStatusBulkResDto(requested.size(), updated, skipped, results);
     }
 
     public OrderResponseDto updateOrderAddress(Long orderId, String address, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
@@ -429,9 +583,7 @@ public class OrderService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        List<ProductResDto> productList = getProductsByIds(productIds);
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        Map<Long, ProductResDto> productMap = productCache.getProducts(productIds);
 
         return orderMapper.toDto(order, productMap);
     }
@@ -443,16 +595,33 @@ public class OrderService {
         return Role.ADMIN.equals(tokenUserInfo.getRole());
     }
 
+    // 비동기로 보낸 사용자 조회 결과를 기다림 (타임아웃은 userService 서킷브레이커의 time limiter가 담당)
+    private UserResDto awaitUser(CompletableFuture<UserResDto> userFuture) {
+        try {
+            return userFuture.join();
+        } catch (CompletionException e) {
+            log.error("사용자 정보 조회 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            throw new RuntimeException("사용자 정보가 없습니다.");
+        }
+    }
+
+    // 상품 ID -> 상품 정보 Map (한 번의 호출로 조회)
+    // 주문 가격 계산에 쓰이므로 캐시를 거치지 않고 항상 최신 정보를 조회한다
+    private Map<Long, ProductResDto> getProductMap(List<Long> productIds) {
+        return getProductsByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+    }
+
     // 상품 정보를 여러 개 조회하는 공통 메서드
     private List<ProductResDto> getProductsByIds(List<Long> productIds) {
         // 여러 상품 정보 조회
-        CommonResDto<List<ProductResDto>> productResponse = productServiceClient.getProducts(productIds);
+        List<ProductResDto> products = productServiceClient.getProducts(productIds);
 
-        if (productResponse == null || productResponse.getResult() == null) {
+        if (products == null) {
             throw new RuntimeException("상품 정보 조회 실패");
         }
 
-        return productResponse.getResult(); // 상품 정보 반환
+        return products; // 상품 정보 반환
     }
 
 
@@ -0,0 +1,190 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.ordering.dto.OrderStatusEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주문 상태 실시간 구독 (SSE)
+// - 상태가 바뀐 트랜잭션이 커밋되면 Redis 채널 order:status 로 발행하고, 모든 인스턴스가 받아 자기 연결로 전달
+// - 사용자는 자기 주문만, 관리자는 전체 주문 변경을 받는다
+// - 연결마다 버퍼 크기를 제한하고, 버퍼가 넘치는 느린 연결은 끊는다 (재연결 후 주문 내역으로 다시 맞춤)
+@Component
+@Slf4j
+public class OrderStatusStream implements MessageListener {
+
+    public static final String CHANNEL = "order:status";
+    private static final String ALL = "*"; // 관리자 구독 키
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor sseExecutor;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public OrderStatusStream(StringRedisTemplate stringRedisTemplate,
+                             ObjectMapper objectMapper,
+                             @Qualifier("sseExecutor") Executor sseExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${order.sse.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${order.sse.buffer-size:32}") int bufferSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.sseExecutor = sseExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+
+        Gauge.builder("order.sse.connections", connections, AtomicInteger::get)
+                .description("주문 상태 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(TokenUserInfo userInfo) {
+        String key = Role.ADMIN.equals(userInfo.getRole()) ? ALL : userInfo.getEmail();
+        Subscriber subscriber = new Subscriber(key, new SseEmitter(timeoutMillis), bufferSize);
+
+        subscribers.compute(key, (k, set) -> {
+            Set<Subscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (target.add(subscriber)) {
+                connections.incrementAndGet();
+            }
+            return target;
+        });
+
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 한 번 보내서 프록시가 응답 헤더를 바로 내려보내게 함
+        offer(subscriber, SseEmitter.event().name("connected").data("ok"));
+        return subscriber.emitter;
+    }
+
+    // 상태 변경 트랜잭션이 커밋된 뒤에 발행 (트랜잭션 밖에서 바뀐 경우는 바로 발행)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // 알림 실패로 주문 처리를 되돌리지 않음 (클라이언트는 재연결 시 주문 내역으로 다시 맞춤)
+            log.warn("주문 상태 알림 발행 실패. 주문 ID: {}, 원인: {}", event.getOrderId(), e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스(자기 자신 포함)가 발행한 상태 변경을 이 인스턴스의 연결로 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        OrderStatusEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), OrderStatusEvent.class);
+        } catch (Exception e) {
+            log.warn("주문 상태 알림 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        deliver(event.getEmail(), event);
+        deliver(ALL, event);
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막기 위한 주석 이벤트
+    @Scheduled(fixedDelayString = "${order.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber ->
+                offer(subscriber, SseEmitter.event().comment("ping"))));
+    }
+
+    private void deliver(String key, OrderStatusEvent event) {
+        Set<Subscriber> targets = subscribers.get(key);
+        if (targets == null) return;
+
+        for (Subscriber subscriber : targets) {
+            offer(subscriber, SseEmitter.event()
+                    .id(event.getOrderId() + "-" + event.getChangedAt())
+                    .name("order-status")
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder sse) {
+        if (!subscriber.queue.offer(sse)) {
+            log.info("SSE 버퍼 초과로 연결 종료: {}", subscriber.key);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        drain(subscriber);
+    }
+
+    // 연결마다 한 번에 하나의 전송 작업만 돌도록 해서 이벤트 순서를 지킨다
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+
+        sseExecutor.execute(() -> {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while ((next = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(next);
+                }
+            } catch (Exception e) {
+                // 클라이언트가 끊은 경우
+                remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            } finally {
+                subscriber.draining.set(false);
+            }
+            // 전송을 마친 사이에 들어온 이벤트
+            if (!subscriber.queue.isEmpty()) {
+                drain(subscriber);
+            }
+        });
+    }
+
+    private void remove(Subscriber subscriber) {
+        // 키 단위로 원자적으로 처리해서 빈 집합 제거와 새 구독 추가가 엇갈리지 않게 함
+        subscribers.computeIfPresent(subscriber.key, (key, set) -> {
+            if (set.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+        subscriber.queue.clear();
+    }
+
+    private static final class Subscriber {
+        private final String key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String key, SseEmitter emitter, int bufferSize) {
+            this.key = key;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.dto.StockReplyDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// product-service 의 재고 명령 처리 결과(order:stock-replies)를 소비자 그룹으로 받아 주문 상태에 반영
+// 처리에 성공한 메시지만 ACK 하고, 실패하거나 소비자가 죽어 남은 메시지는 주기적으로 다시 가져와 처리
+@Component
+@Slf4j
+public class StockReplyListener implements StreamListener<String, MapRecord<String, String, String>> {
+
+    public static final String REPLY_STREAM = "order:stock-replies";
+    public static final String GROUP = "ordering-service";
+    private static final Duration RECLAIM_IDLE = Duration.ofSeconds(60);
+    private static final int RECLAIM_BATCH_SIZE = 100;
+    private static final long MAX_DELIVERIES = 10;
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderSagaService orderSagaService;
+    private final String consumerName = "ordering-" + UUID.randomUUID();
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public StockReplyListener(RedisConnectionFactory redisConnectionFactory,
+                              StringRedisTemplate stringRedisTemplate,
+                              OrderSagaService orderSagaService) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderSagaService = orderSagaService;
+    }
+
+    @PostConstruct
+    public void start() {
+        createGroupIfMissing();
+
+        container = StreamMessageListenerContainer.create(redisConnectionFactory,
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .batchSize(50)
+                        .build());
+        container.register(StreamMessageListenerContainer.StreamReadRequest
+                        .builder(StreamOffset.create(REPLY_STREAM, ReadOffset.lastConsumed()))
+                        .consumer(Consumer.from(GROUP, consumerName))
+                        .autoAcknowledge(false)
+                        .cancelOnError(e -> false)
+                        .build(),
+                this);
+        container.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        handle(message.getId(), message.getValue());
+    }
+
+    // 오래 ACK 되지 않은 메시지를 이 소비자로 가져와 다시 처리
+    @Scheduled(fixedDelayString = "${order.saga.reclaim-interval-ms:30000}")
+    public void reclaimStale() {
+        try {
+            PendingMessages pending = stringRedisTemplate.opsForStream()
+                    .pending(REPLY_STREAM, GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE);
+
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(RECLAIM_IDLE) < 0) {
+                    continue;
+                }
+                if (message.getTotalDeliveryCount() > MAX_DELIVERIES) {
+                    // 계속 실패하는 메시지는 로그만 남기고 버림 (주문은 타임아웃 보상으로 정리됨)
+                    log.error("재고 응답 처리 포기. 메시지 ID: {}", message.getIdAsString());
+                    stringRedisTemplate.opsForStream().acknowledge(REPLY_STREAM, GROUP, message.getId());
+                    continue;
+                }
+                List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+                        .claim(REPLY_STREAM, GROUP, consumerName, RECLAIM_IDLE, message.getId());
+                for (MapRecord<String, Object, Object> record : claimed) {
+                    handle(record.getId(), record.getValue());
+                }
+            }
+        } catch (Exception e) {
+            log.error("재고 응답 재처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void handle(RecordId id, Map<?, ?> fields) {
+        try {
+            orderSagaService.onStockReply(toReply(fields));
+            stringRedisTemplate.opsForStream().acknowledge(REPLY_STREAM, GROUP, id);
+        } catch (Exception e) {
+            // ACK 하지 않으면 pending 으로 남아 reclaimStale 에서 다시 처리됨
+            log.error("재고 응답 처리 실패. 메시지 ID: {}, 원인: {}", id, e.getMessage());
+        }
+    }
+
+    private StockReplyDto toReply(Map<?, ?> fields) {
+        String failed = String.valueOf(fields.get("failedProductIds"));
+        List<Long> failedProductIds = failed.isBlank() || "null".equals(failed)
+                ? List.of()
+                : Arrays.stream(failed.split(",")).map(Long::valueOf).collect(Collectors.toList());
+
+        return StockReplyDto.builder()
+                .orderId(Long.valueOf(String.valueOf(fields.get("orderId"))))
+                .type(String.valueOf(fields.get("type")))
+                .success(Boolean.parseBoolean(String.valueOf(fields.get("success"))))
+                .reason(String.valueOf(fields.get("reason")))
+                .failedProductIds(failedProductIds)
+                .build();
+    }
+
+    // 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+    private void createGroupIfMissing() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(REPLY_STREAM.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.playdata.orderingservice.ordering.repository;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문 내역 조회가 주문 수와 상관없이 고정된 횟수의 쿼리로 끝나는지 p6spy 이벤트로 확인
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false"
+})
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+class OrderRepositoryQueryCountTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final int ORDER_COUNT = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @TestConfiguration
+    static class QueryCounterConfig {
+        // p6spy 스타터는 컨텍스트에 등록된 JdbcEventListener 빈을 자동으로 연결한다
+        @Bean
+        QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    static class QueryCounter extends SimpleJdbcEventListener {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+
+        int get() {
+            return count.get();
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            em.persist(newOrder(EMAIL, OrderStatus.ORDERED));
+        }
+        em.persist(newOrder(EMAIL, OrderStatus.CANCELED));
+        em.persist(newOrder("other@test.com", OrderStatus.ORDERED));
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+    }
+
+    @Test
+    void historyLoadsOrdersAndItemsInOneQuery() {
+        List<Order> orders = orderRepository.findWithItemsByEmail(EMAIL, OrderStatus.CANCELED);
+        int items = orders.stream().mapToInt(o -> o.getOrderItems().size()).sum();
+
+        assertThat(orders).hasSize(ORDER_COUNT)
+                .allMatch(o -> o.getOrderStatus() != OrderStatus.CANCELED);
+        assertThat(items).isEqualTo(ORDER_COUNT * ITEMS_PER_ORDER);
+        assertThat(queryCounter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void historyPageUsesTwoQueries() {
+        List<Long> ids = orderRepository.findHistoryOrderIds(EMAIL, OrderStatus.CANCELED, null, PageRequest.of(0, 10));
+        List<Order> orders = orderRepository.findWithItemsByOrderIdIn(ids);
+        orders.forEach(o -> o.getOrderItems().size());
+
+        assertThat(orders).hasSize(10);
+        assertThat(queryCounter.get()).isEqualTo(2);
+
+        // 다음 페이지는 마지막 주문 ID 이후부터
+        List<Long> next = orderRepository.findHistoryOrderIds(EMAIL, OrderStatus.CANCELED, ids.get(ids.size() - 1), PageRequest.of(0, 10));
+        assertThat(next).hasSize(10).allMatch(id -> id < ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void lazyLoadingFiresOneQueryPerOrder() {
+        // 기존 방식(findAllByEmail 후 항목 접근)은 주문 수만큼 쿼리가 추가로 나간다
+        List<Order> orders = orderRepository.findAllByEmail(EMAIL);
+        orders.forEach(o -> o.getOrderItems().size());
+
+        assertThat(queryCounter.get()).isEqualTo(1 + orders.size());
+    }
+
+    @Test
+    void bulkItemStatusUpdateUsesSetBasedQueries() {
+        List<Long> orderIds = orderRepository.findHistoryOrderIds(EMAIL, OrderStatus.CANCELED, null, PageRequest.of(0, 10));
+        List<Long> itemIds = em.createQuery(
+                        "SELECT i.orderItemId FROM OrderItem i WHERE i.order.orderId IN :orderIds", Long.class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+        queryCounter.reset();
+
+        // 항목 수와 상관없이 항목 UPDATE 1번 + 상태별 개수 재집계 1번 + 주문 상태 판정 1번
+        int updated = orderItemRepository.updateStatusByOrderItemIdIn(OrderStatus.SHIPPED, itemIds,
+                EnumSet.of(OrderStatus.ORDERED, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.RETURNED));
+        orderRepository.recountItemStatuses(orderIds);
+        orderRepository.deriveStatusFromItemCounts(orderIds);
+
+        assertThat(updated).isEqualTo(10 * ITEMS_PER_ORDER);
+        assertThat(queryCounter.get()).isEqualTo(3);
+
+        // 항목 테이블 조인 없이 "전부 배송중" 주문을 셀 수 있음
+        Long fullyShipped = em.createQuery("SELECT COUNT(o) FROM Order o " +
+                        "WHERE o.itemCount > 0 AND o.itemStatusCounts.shippedCount = o.itemCount " +
+                        "AND o.orderStatus = :status", Long.class)
+                .setParameter("status", OrderStatus.SHIPPED)
+                .getSingleResult();
+        assertThat(fullyShipped).isEqualTo(10);
+    }
+
+    @Test
+    void singleItemTransitionDerivesOrderStatusInOneStatement() {
+        Long orderId = orderRepository.findHistoryOrderIds(EMAIL, OrderStatus.CANCELED, null, PageRequest.of(0, 1)).get(0);
+        queryCounter.reset();
+
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            orderRepository.moveItemStatus(orderId, -1, 1, 0, 0, 0); // ORDERED -> SHIPPED
+            OrderStatus expected = i < ITEMS_PER_ORDER - 1 ? OrderStatus.ORDERED : OrderStatus.SHIPPED;
+            assertThat(em.find(Order.class, orderId).getOrderStatus()).isEqualTo(expected);
+            em.clear();
+        }
+
+        // 항목을 다시 읽지 않음: 이동마다 UPDATE 1번 + 검증용 조회 1번
+        assertThat(queryCounter.get()).isEqualTo(ITEMS_PER_ORDER * 2);
+        Order order = em.find(Order.class, orderId);
+        assertThat(order.getItemStatusCounts().getShippedCount()).isEqualTo(ITEMS_PER_ORDER);
+        assertThat(order.getItemStatusCounts().getOrderedCount()).isZero();
+    }
+
+    private Order newOrder(String email, OrderStatus status) {
+        List<OrderItem> items = new ArrayList<>();
+        Order order = Order.builder()
+                .email(email)
+                .address("서울시 테스트구")
+                .orderedAt(LocalDateTime.now())
+                .orderStatus(status)
+                .totalPrice(BigDecimal.valueOf(3000))
+                .orderItems(items)
+                .build();
+        for (long p = 1; p <= ITEMS_PER_ORDER; p++) {
+            items.add(OrderItem.builder()
+                    .order(order)
+                    .productId(p)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.valueOf(1000))
+                    .orderStatus(status)
+                    .build());
+        }
+        order.recountItemStatuses();
+        return order;
+    }
+}
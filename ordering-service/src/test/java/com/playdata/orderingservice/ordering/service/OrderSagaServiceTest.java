@@ -0,0 +1,99 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.dto.StockReplyDto;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import com.playdata.orderingservice.ordering.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재고 응답 / 타임아웃이 겹칠 때 주문 상태가 한 번만 전이되는지 확인 (테스트 트랜잭션 없이 실행)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "order.saga.reserve-timeout-seconds=0"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(OrderSagaService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderSagaServiceTest {
+
+    @Autowired
+    private OrderSagaService orderSagaService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void lateReserveSuccessAfterTimeoutKeepsOrderCanceledAndReleasesAgain() {
+        Order order = orderSagaService.placeOrder(newOrder());
+
+        orderSagaService.expirePendingOrders();
+        orderSagaService.onStockReply(new StockReplyDto(order.getOrderId(), "RESERVE", true, null, List.of()));
+
+        Order reloaded = orderRepository.findWithItemsByOrderId(order.getOrderId()).orElseThrow();
+        assertThat(reloaded.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(reloaded.getOrderItems()).allMatch(i -> i.getOrderStatus() == OrderStatus.CANCELED);
+        assertThat(reloaded.getItemStatusCounts().getCanceledCount()).isEqualTo(reloaded.getItemCount());
+        // 타임아웃 해제 + 뒤늦은 예약에 대한 해제
+        assertThat(orderOutboxRepository.findAll())
+                .filteredOn(e -> e.getEventType() == OrderOutbox.EventType.STOCK_RELEASE)
+                .hasSize(2);
+    }
+
+    @Test
+    void duplicateReplyTransitionsOnce() {
+        Order order = orderSagaService.placeOrder(newOrder());
+
+        orderSagaService.onStockReply(new StockReplyDto(order.getOrderId(), "RESERVE", true, null, List.of()));
+        orderSagaService.onStockReply(new StockReplyDto(order.getOrderId(), "RESERVE", false, "OUT_OF_STOCK", List.of(1L)));
+
+        Order reloaded = orderRepository.findWithItemsByOrderId(order.getOrderId()).orElseThrow();
+        assertThat(reloaded.getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+        assertThat(reloaded.getItemStatusCounts().getOrderedCount()).isEqualTo(reloaded.getItemCount());
+    }
+
+    private Order newOrder() {
+        List<OrderItem> items = new ArrayList<>();
+        Order order = Order.builder()
+                .email("user@test.com")
+                .address("서울시 테스트구")
+                .orderedAt(LocalDateTime.now().minusSeconds(1))
+                .totalPrice(BigDecimal.valueOf(2000))
+                .orderItems(items)
+                .build();
+        for (long p = 1; p <= 2; p++) {
+            items.add(OrderItem.builder()
+                    .order(order)
+                    .productId(p)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.valueOf(1000))
+                    .build());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,156 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.cart.service.CartService;
+import com.playdata.orderingservice.client.ProductCache;
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.client.UserServiceClient;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.ordering.dto.StockReplyDto;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.mapper.OrderExportWriter;
+import com.playdata.orderingservice.ordering.mapper.OrderMapper;
+import com.playdata.orderingservice.ordering.repository.OrderItemRepository;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import com.playdata.orderingservice.ordering.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+// 서비스 트랜잭션 경계를 그대로 타도록 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OrderService.class, OrderSagaService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceItemStatusTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final int ITEMS_PER_ORDER = 2;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+    @Autowired
+    private OrderSagaService orderSagaService;
+
+    @MockBean
+    private OrderMapper orderMapper;
+    @MockBean
+    private OrderExportWriter orderExportWriter;
+    @MockBean
+    private UserServiceClient userServiceClient;
+    @MockBean
+    private ProductServiceClient productServiceClient;
+    @MockBean
+    private ProductCache productCache;
+    @MockBean
+    private CartService cartService;
+    @MockBean
+    private CircuitBreakerFactory circuitBreakerFactory;
+    @MockBean(name = "remoteCallExecutor")
+    private Executor remoteCallExecutor;
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void itemStatusChangeUpdatesItemAndOrderCountersTogether() throws Exception {
+        Order saved = orderRepository.save(newOrder());
+        List<Long> itemIds = saved.getOrderItems().stream().map(OrderItem::getOrderItemId).toList();
+        TokenUserInfo admin = new TokenUserInfo(EMAIL, Role.ADMIN);
+
+        orderService.updateOrderItemStatus(itemIds.get(0), "SHIPPED", admin);
+
+        Order afterFirst = orderRepository.findWithItemsByOrderId(saved.getOrderId()).orElseThrow();
+        assertThat(orderItemRepository.findById(itemIds.get(0)).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.SHIPPED);
+        assertThat(afterFirst.getItemStatusCounts().getShippedCount()).isEqualTo(1);
+        assertThat(afterFirst.getItemStatusCounts().getOrderedCount()).isEqualTo(1);
+        assertThat(afterFirst.getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+
+        orderService.updateOrderItemStatus(itemIds.get(1), "SHIPPED", admin);
+
+        Order afterAll = orderRepository.findWithItemsByOrderId(saved.getOrderId()).orElseThrow();
+        assertThat(afterAll.getOrderItems()).allMatch(i -> i.getOrderStatus() == OrderStatus.SHIPPED);
+        assertThat(afterAll.getItemStatusCounts().getShippedCount()).isEqualTo(ITEMS_PER_ORDER);
+        assertThat(afterAll.getOrderStatus()).isEqualTo(OrderStatus.SHIPPED);
+    }
+
+    @Test
+    void cancelingPendingItemIsRejectedAndReserveSuccessKeepsStock() {
+        Order pending = orderSagaService.placeOrder(newOrder());
+        Long itemId = pending.getOrderItems().get(0).getOrderItemId();
+        TokenUserInfo admin = new TokenUserInfo(EMAIL, Role.ADMIN);
+
+        assertThatThrownBy(() -> orderService.updateOrderItemStatus(itemId, "CANCELED", admin))
+                .isInstanceOf(IllegalStateException.class);
+        then(productServiceClient).should(never()).cancelProduct(any());
+
+        orderSagaService.onStockReply(new StockReplyDto(pending.getOrderId(), "RESERVE", true, null, List.of()));
+
+        Order reloaded = orderRepository.findWithItemsByOrderId(pending.getOrderId()).orElseThrow();
+        assertThat(reloaded.getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+        assertThat(reloaded.getOrderItems()).allMatch(i -> i.getOrderStatus() == OrderStatus.ORDERED);
+        assertThat(reloaded.getItemStatusCounts().getOrderedCount()).isEqualTo(ITEMS_PER_ORDER);
+        // 예약된 재고를 되돌리는 해제 이벤트는 없어야 함
+        assertThat(orderOutboxRepository.findAll())
+                .noneMatch(e -> e.getEventType() == OrderOutbox.EventType.STOCK_RELEASE);
+    }
+
+    private Order newOrder() {
+        List<OrderItem> items = new ArrayList<>();
+        Order order = Order.builder()
+                .email(EMAIL)
+                .address("서울시 테스트구")
+                .orderedAt(LocalDateTime.now())
+                .orderStatus(OrderStatus.ORDERED)
+                .totalPrice(BigDecimal.valueOf(2000))
+                .orderItems(items)
+                .build();
+        for (long p = 1; p <= ITEMS_PER_ORDER; p++) {
+            items.add(OrderItem.builder()
+                    .order(order)
+                    .productId(p)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.valueOf(1000))
+                    .orderStatus(OrderStatus.ORDERED)
+                    .build());
+        }
+        order.recountItemStatuses();
+        return order;
+    }
+}
@@ -3,9 +3,11 @@ package com.playdata.productservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients(basePackages = "com.playdata.productservice.client")
+@EnableScheduling
 public class ProductServiceApplication {
 
     public static void main(String[] args) {
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.playdata.productservice.category.dto.*;
 import com.playdata.productservice.category.entity.Category;
 import com.playdata.productservice.category.service.CategoryService;
+import com.playdata.productservice.category.service.CategorySnapshotCache;
 import com.playdata.productservice.client.OrderServiceClient;
 import com.playdata.productservice.client.UserServiceClient;
 import com.playdata.productservice.common.auth.TokenUserInfo;
@@ -15,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,26 +32,39 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategorySnapshotCache categorySnapshotCache;
     private final UserServiceClient userServiceClient;
 
+    // 목록/네비게이션은 메모리 스냅샷으로 응답 (트랜잭션/DB 커넥션 없이)
+    // ETag/Last-Modified 를 붙여 두면 If-None-Match 가 같을 때 스프링이 304 로 바꿔서 응답한다
     @GetMapping("/list")
     public ResponseEntity<?> getAllProductCategory(Pageable pageable) {
-        List<CategoryResDto> productCategorys = categoryService.getAllProductCategory(pageable);
+        CategorySnapshotCache.CategorySnapshot snapshot = categorySnapshotCache.get();
+        List<CategoryResDto> productCategorys = snapshot.page(pageable);
         if(productCategorys.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT).body("카테고리가 없습니다.");
         }
 
-        return ResponseEntity.ok(productCategorys);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getEtag())
+                .lastModified(snapshot.getLastModified())
+                .body(productCategorys);
     }
 
     @GetMapping("/navList")
     public ResponseEntity<?> getExtraProductCategory() {
-        List<CategoryResDto> productCategorys = categoryService.getExtraProductCategory();
+        CategorySnapshotCache.CategorySnapshot snapshot = categorySnapshotCache.get();
+        List<CategoryResDto> productCategorys = snapshot.getExtraCategories();
         if(productCategorys.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT).body("추가 카테고리가 없습니다.");
         }
 
-        return ResponseEntity.ok(productCategorys);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getEtag())
+                .lastModified(snapshot.getLastModified())
+                .body(productCategorys);
     }
 
     @GetMapping("/detail/{categoryId}")
@@ -5,6 +5,7 @@ import com.playdata.productservice.common.entity.BaseTimeEntity;
 import com.playdata.productservice.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -17,6 +18,7 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "tbl_categories")
+@BatchSize(size = 100) // 전문 검색(native) 결과처럼 fetch join 을 못 쓸 때 카테고리를 IN 으로 묶어서 로딩
 public class Category extends BaseTimeEntity {
 
     //카테고리 아이디
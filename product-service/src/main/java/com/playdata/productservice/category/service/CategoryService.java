@@ -6,8 +6,11 @@ import com.playdata.productservice.category.dto.CategoryUpdateDto;
 import com.playdata.productservice.category.entity.Category;
 import com.playdata.productservice.category.repository.CategoryRepository;
 import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.product.service.ProductEventPublisher;
 import com.playdata.productservice.review.entity.Review;
-import jakarta.transaction.Transactional;
+import com.playdata.productservice.storage.service.S3DeletionQueue;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -15,23 +18,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
     private final AwsS3Config s3Config;
+    private final ProductEventPublisher productEventPublisher;
+    private final S3DeletionQueue deletionQueue;
+    private final CategorySnapshotCache categorySnapshotCache;
 
+    @Transactional(readOnly = true)
     public List<CategoryResDto> getAllProductCategory(Pageable pageable) {
-
-        List<CategoryResDto> categoryList = categoryRepository.findAll(pageable)
-                .stream().map(Category::fromEntity).collect(Collectors.toList());
-
-        return categoryList;
+        return categorySnapshotCache.get().page(pageable);
     }
 
     public ResponseEntity<?> createProductCategory(CategorySaveReqDto reqDto) {
@@ -53,6 +57,7 @@ public class CategoryService {
             }
             Category category = reqDto.toEntity(categoryBgImageUrl);
             categoryRepository.save(category);
+            categorySnapshotCache.changed();
         }catch (IOException e){
             e.printStackTrace();
             return ResponseEntity.internalServerError().body("데이터 입력 실패.");
@@ -80,8 +85,11 @@ public class CategoryService {
         String categoryBgImageUrl = "";
         try {
             if(reqDto.getCategoryBgImg() != null) {
+                // 기존 배경 이미지는 삭제 아웃박스로 (수정이 커밋되면 워커가 삭제)
                 String categoryBgImgUrl = findCategory.getCategoryBgImgUrl();
-                s3Config.deleteFromS3Bucket(categoryBgImgUrl);
+                if (categoryBgImgUrl != null && !categoryBgImgUrl.isEmpty()) {
+                    deletionQueue.enqueueUrls(List.of(categoryBgImgUrl));
+                }
 
                 MultipartFile categoryBgImg = reqDto.getCategoryBgImg();
 
@@ -93,6 +101,11 @@ public class CategoryService {
             findCategory.setCategoryName(reqDto.getCategoryName());
             findCategory.setCategoryBgImgUrl(categoryBgImageUrl);
             categoryRepository.save(findCategory);
+            // 상품 상세 응답에 카테고리 이름이 들어가므로 상세 ETag 도 바뀌게
+            productRepository.increaseRevisionByCategoryId(findCategory.getCategoryId());
+            categorySnapshotCache.changed();
+            // 상품 응답에 카테고리 이름이 들어가므로 상품 캐시 전체 무효화
+            productEventPublisher.allChanged();
         }catch (IOException e){
             e.printStackTrace();
             return ResponseEntity.internalServerError().body("데이터 수정 실패.");
@@ -111,6 +124,7 @@ public class CategoryService {
         }
 
         try {
+            List<String> bgImageUrls = new ArrayList<>();
             for (Long categoryId : categoryIds) {
                 Category findCategory = categoryRepository.findByCategoryId(categoryId)
                         .orElseThrow(() -> new IllegalArgumentException(categoryId + "번 카테고리가 존재하지 않습니다."));
@@ -118,23 +132,25 @@ public class CategoryService {
                 String categoryBgImgUrl = findCategory.getCategoryBgImgUrl();
 
                 if (categoryBgImgUrl != null && !categoryBgImgUrl.isEmpty()) {
-                    s3Config.deleteFromS3Bucket(categoryBgImgUrl);
+                    bgImageUrls.add(categoryBgImgUrl);
                 }
                 categoryRepository.deleteById(categoryId);
             }
+            // S3 삭제는 한 번에 아웃박스로 기록 (워커가 DeleteObjects 로 일괄 삭제)
+            deletionQueue.enqueueUrls(bgImageUrls);
+            categorySnapshotCache.changed();
+            productEventPublisher.allChanged();
             return ResponseEntity.ok().body("데이터 삭제 완료.");
         } catch (IllegalArgumentException e) {
             // Specific exception for category not found
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (IOException e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError().body("S3 이미지 삭제 중 오류가 발생했습니다. " + e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().body("예상치 못한 에러가 발생했습니다. 관리자에게 문의 바랍니다.");
         }
     }
 
+    @Transactional(readOnly = true)
     public CategoryResDto getDetailProductCategory(String categoryId) {
         Category category = categoryRepository.findByCategoryId(Long.parseLong(categoryId))
                 .orElseThrow(() -> new IllegalArgumentException("올바르지 않은 카테고리 아이디입니다."));
@@ -144,10 +160,8 @@ public class CategoryService {
         return categoryResDto;
     }
 
+    @Transactional(readOnly = true)
     public List<CategoryResDto> getExtraProductCategory() {
-        List<CategoryResDto> categoryList = categoryRepository.findByExtraCategory()
-                .stream().map(Category::fromEntity).collect(Collectors.toList());
-
-        return categoryList;
+        return categorySnapshotCache.get().getExtraCategories();
     }
 }
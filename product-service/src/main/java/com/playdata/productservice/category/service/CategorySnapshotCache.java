@@ -0,0 +1,170 @@
+package com.playdata.productservice.category.service;
+
+import com.playdata.productservice.category.dto.CategoryResDto;
+import com.playdata.productservice.category.entity.Category;
+import com.playdata.productservice.category.repository.CategoryRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 카테고리 목록의 메모리 스냅샷 (/category/list, /category/navList 는 DB 를 거치지 않는다)
+// 카테고리는 관리자 등록/수정/삭제로만 바뀌므로, 변경이 커밋되면 스냅샷을 비우고
+// Redis 채널로 다른 인스턴스에도 알린다. 알림이 유실돼도 max-age 가 지나면 다시 읽는다.
+@Component
+@Slf4j
+public class CategorySnapshotCache implements MessageListener {
+
+    public static final String CHANNEL = "category:changed";
+    // 네비게이션에 추가로 노출하는 카테고리 (기본 카테고리 8개 이후)
+    private static final long EXTRA_CATEGORY_FROM = 8L;
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration maxAge;
+
+    private volatile CategorySnapshot snapshot;
+    // 무효화가 일어날 때마다 증가. 읽는 도중 무효화되면 그 결과는 스냅샷으로 두지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategorySnapshotCache(CategoryRepository categoryRepository,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 @Value("${category.snapshot.max-age-seconds:300}") long maxAgeSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    public CategorySnapshot get() {
+        CategorySnapshot current = snapshot;
+        if (current != null && !current.isExpired(maxAge)) return current;
+
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !current.isExpired(maxAge)) return current;
+
+            long generationBefore = generation.get();
+            CategorySnapshot loaded = load(current);
+            if (generation.get() == generationBefore) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    // 카테고리 변경 후 호출. 트랜잭션 안이면 커밋이 끝난 뒤에 비우고 알린다.
+    public void changed() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndBroadcast();
+                }
+            });
+        } else {
+            invalidateAndBroadcast();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    // 다른 인스턴스(또는 자기 자신)의 변경 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        log.debug("카테고리 변경 알림 수신");
+        invalidate();
+    }
+
+    private void invalidateAndBroadcast() {
+        invalidate();
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, "*");
+        } catch (Exception e) {
+            // 다른 인스턴스는 max-age 가 지나면 다시 읽는다
+            log.warn("카테고리 변경 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private CategorySnapshot load(CategorySnapshot previous) {
+        List<Category> categories = categoryRepository.findAll(Sort.by("categoryId"));
+
+        List<CategoryResDto> all = categories.stream().map(Category::fromEntity).toList();
+        List<CategoryResDto> extra = all.stream()
+                .filter(c -> c.getCategoryId() > EXTRA_CATEGORY_FROM)
+                .toList();
+        String etag = etagOf(all);
+
+        // Last-Modified 는 가장 최근 수정 시각. 삭제처럼 시각이 앞당겨지는 변경은 지금 시각으로
+        long lastModified = categories.stream()
+                .map(c -> c.getUpdateTime() != null ? c.getUpdateTime() : c.getCreateTime())
+                .filter(Objects::nonNull)
+                .mapToLong(t -> t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .max().orElse(0L);
+        if (previous != null && !previous.getEtag().equals(etag) && lastModified <= previous.getLastModified()) {
+            lastModified = System.currentTimeMillis();
+        }
+        // HTTP 날짜는 초 단위
+        lastModified = lastModified / 1000 * 1000;
+
+        log.debug("카테고리 스냅샷 갱신: {}개, etag={}", all.size(), etag);
+        return new CategorySnapshot(all, extra, etag, lastModified, Instant.now());
+    }
+
+    // 내용이 같으면 어느 인스턴스에서 만들어도 같은 ETag
+    private String etagOf(List<CategoryResDto> categories) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (CategoryResDto c : categories) {
+                digest.update((c.getCategoryId() + "|" + c.getCategoryName() + "|" + c.getCategoryBgImgUrl() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CategorySnapshot {
+        private final List<CategoryResDto> categories; // 카테고리 ID 순
+        private final List<CategoryResDto> extraCategories;
+        private final String etag;
+        private final long lastModified; // epoch millis
+        private final Instant loadedAt;
+
+        // /category/list 의 page, size 를 메모리에서 적용 (정렬은 카테고리 ID 순 고정)
+        public List<CategoryResDto> page(Pageable pageable) {
+            if (pageable.isUnpaged()) return categories;
+            long from = Math.min(pageable.getOffset(), categories.size());
+            long to = Math.min(from + pageable.getPageSize(), categories.size());
+            return categories.subList((int) from, (int) to);
+        }
+
+        boolean isExpired(Duration maxAge) {
+            return loadedAt.plus(maxAge).isBefore(Instant.now());
+        }
+    }
+}
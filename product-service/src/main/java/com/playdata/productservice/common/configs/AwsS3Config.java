@@ -9,11 +9,22 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @Slf4j
@@ -57,28 +68,91 @@ public class AwsS3Config {
 
     }
 
-    public void deleteFromS3Bucket(String imageUrl) throws Exception {
+    // 멀티파트 임시 파일 등에서 바로 스트리밍 업로드 (파일 전체를 byte[] 로 올리지 않음)
+    public String uploadToS3Bucket(InputStream inputStream, long contentLength,
+                                   String contentType, String fileName) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
 
-        URL url = new URL(imageUrl);
+        s3Client.putObject(request, RequestBody.fromInputStream(inputStream, contentLength));
 
-        String decodingKey = URLDecoder.decode(url.getPath(), "UTF-8");
-        String key = decodingKey.substring(1);
+        return s3Client.utilities()
+                .getUrl(b -> b.bucket(bucketName).key(fileName))
+                .toString();
+    }
 
-        DeleteObjectRequest request = DeleteObjectRequest.builder()
+    public String uploadToS3Bucket(byte[] uploadFile, String contentType, String fileName) {
+        PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucketName)
-                .key(key)
+                .key(fileName)
+                .contentType(contentType)
                 .build();
 
-        s3Client.deleteObject(request);
+        s3Client.putObject(request, RequestBody.fromBytes(uploadFile));
+
+        return getUrl(fileName);
     }
-}
 
+    // 같은 키의 객체가 이미 있는지 (내용 해시 기반 키의 중복 업로드 방지용)
+    public boolean exists(String fileName) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileName)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
 
+    public String getUrl(String fileName) {
+        return s3Client.utilities()
+                .getUrl(b -> b.bucket(bucketName).key(fileName))
+                .toString();
+    }
 
+    public void deleteFromS3Bucket(String imageUrl) throws Exception {
 
+        String key = keyOf(imageUrl);
 
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
 
+        s3Client.deleteObject(request);
+    }
 
+    // 최대 1000개 키를 한 번에 삭제. 실패한 키와 에러 메시지를 돌려준다 (없는 키는 성공으로 처리됨)
+    public Map<String, String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) return Map.of();
 
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
 
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build());
+
+        Map<String, String> errors = new HashMap<>();
+        for (S3Error error : response.errors()) {
+            errors.put(error.key(), error.code() + ": " + error.message());
+        }
+        return errors;
+    }
 
+    // 객체 URL -> 버킷 내 키
+    public String keyOf(String imageUrl) throws Exception {
+        URL url = new URL(imageUrl);
+
+        String decodingKey = URLDecoder.decode(url.getPath(), "UTF-8");
+        return decodingKey.substring(1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.playdata.productservice.common.configs;
+
+import com.playdata.productservice.category.service.CategorySnapshotCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 다른 인스턴스의 카테고리 변경 알림을 받아 카테고리 스냅샷을 비운다
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory factory,
+            CategorySnapshotCache categorySnapshotCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(categorySnapshotCache, new ChannelTopic(CategorySnapshotCache.CHANNEL));
+        return container;
+    }
+
+}
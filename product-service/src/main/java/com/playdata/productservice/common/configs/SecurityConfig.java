@@ -35,9 +35,11 @@ public class SecurityConfig {
         http.authorizeHttpRequests(auth -> {
             auth
                     .requestMatchers("/product/list",
+                            "/product/search/*",
                             "/product/updateQuantity",
                             "/product/detail/*",
                               "/product/products",
+                            "/product/internal/products",
                             "/product/cancel",
                             "/actuator/**",
                             "/review/list/*",
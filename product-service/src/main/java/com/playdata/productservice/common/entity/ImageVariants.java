@@ -0,0 +1,27 @@
+package com.playdata.productservice.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+// 업로드 시 한 번 만들어 두는 이미지 파생본(리사이즈) URL 과 원본 내용 해시
+// 이미지가 아니거나(동영상 등) 디코딩할 수 없는 파일이면 해시만 있고 URL 들은 null
+@Embeddable
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageVariants {
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 원본 SHA-256 (S3 키: images/{hash}/...)
+
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl; // 목록 썸네일 (가로 200px)
+
+    @Column(name = "list_url", length = 1000)
+    private String listUrl; // 상품 목록 카드 (가로 480px)
+
+    @Column(name = "detail_url", length = 1000)
+    private String detailUrl; // 상세 화면 (가로 1080px)
+}
@@ -1,21 +1,31 @@
 package com.playdata.productservice.product.controller;
 
 import com.playdata.productservice.common.dto.CommonResDto;
+import com.playdata.productservice.product.dto.ProductBriefResDto;
+import com.playdata.productservice.product.dto.ProductFacetResDto;
+import com.playdata.productservice.product.dto.ProductPageResDto;
 import com.playdata.productservice.product.dto.ProductResDto;
 import com.playdata.productservice.product.dto.ProductSaveReqDto;
 import com.playdata.productservice.product.dto.ProductSearchDto;
+import com.playdata.productservice.product.dto.ProductSummaryResDto;
 import com.playdata.productservice.product.dto.ProductUpdateDto;
 import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.service.ProductDetailCache;
 import com.playdata.productservice.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +36,11 @@ import java.util.Map;
 public class ProductContoller {
 
     private final ProductService productService;
+    private final ProductDetailCache productDetailCache;
+
+    // 상품 상세를 CDN(공유 캐시)이 재검증 없이 들고 있을 시간
+    @Value("${product.detail.s-maxage-seconds:10}")
+    private long detailSharedMaxAgeSeconds;
 
     // 상품 등록 요청
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,7 +59,7 @@ public class ProductContoller {
     @GetMapping("/list")
     public ResponseEntity<?> listProduct(ProductSearchDto dto, Pageable pageable) {
 
-        List<ProductResDto> dtoList = productService.productList(dto, pageable);
+        List<ProductSummaryResDto> dtoList = productService.productList(dto, pageable);
 
         CommonResDto resDto
                 = new CommonResDto(HttpStatus.OK, "상품 리스트 정상 조회", dtoList);
@@ -52,6 +67,44 @@ public class ProductContoller {
         return ResponseEntity.ok().body(resDto);
     }
 
+    // 커서 기반 목록 (무한 스크롤). cursor 파라미터가 있으면 이쪽으로 (첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "/list", params = "cursor")
+    public ResponseEntity<?> listProductPage(ProductSearchDto dto,
+                                             @RequestParam(value = "cursor", required = false) Long cursor,
+                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        ProductPageResDto page = productService.productPage(dto, cursor, size);
+
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, "상품 리스트 정상 조회", page);
+
+        return ResponseEntity.ok().body(resDto);
+    }
+
+    // 검색 결과의 카테고리별 상품 수
+    @GetMapping("/search/facets")
+    public ResponseEntity<?> searchFacets(@RequestParam("searchName") String searchName) {
+
+        List<ProductFacetResDto> facets = productService.searchFacets(searchName);
+
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, "카테고리별 검색 결과 수 조회", facets);
+
+        return ResponseEntity.ok().body(resDto);
+    }
+
+    // 상품명 자동완성
+    @GetMapping("/search/suggest")
+    public ResponseEntity<?> suggest(@RequestParam("prefix") String prefix) {
+
+        List<String> names = productService.suggestNames(prefix);
+
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, "자동완성 조회", names);
+
+        return ResponseEntity.ok().body(resDto);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PatchMapping("/update")
     public ResponseEntity<?> updateProduct(@RequestParam("id") Long id, ProductUpdateDto dto) throws Exception {
@@ -77,15 +130,25 @@ public class ProductContoller {
     }
 
     // 단일 상품 조회
+    // revision 기반 ETag: If-None-Match 가 같으면 304, 아니면 캐시된 JSON 을 그대로 내려준다
+    // CDN 은 s-maxage 동안 캐시하고, 브라우저는 매번 ETag 로 재검증
     @GetMapping("/detail/{prodId}")
-    public ResponseEntity<?> getProductById(@PathVariable Long prodId) {
+    public ResponseEntity<?> getProductById(@PathVariable Long prodId, WebRequest webRequest) {
 
-        ProductResDto dto = productService.getProductInfo(prodId);
+        String etag = productDetailCache.etag(prodId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        CommonResDto resDto
-                = new CommonResDto(HttpStatus.OK, "조회 완료", dto);
+        ProductDetailCache.Rendered rendered = productDetailCache.render(prodId, etag);
 
-        return ResponseEntity.ok().body(resDto);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(rendered.getEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ZERO)
+                        .sMaxAge(Duration.ofSeconds(detailSharedMaxAgeSeconds))
+                        .cachePublic())
+                .body(rendered.getBody());
     }
 
     // 수량 업데이트
@@ -105,13 +168,22 @@ public class ProductContoller {
     @PostMapping("/products")
     public ResponseEntity<?> getProducts(@RequestBody List<Long> productIds) {
         log.info("/products: GET, productIds: {}", productIds);
-        List<ProductResDto> productDtos = productService.getProductsName(productIds);
+        List<ProductSummaryResDto> productDtos = productService.getProductsName(productIds);
         CommonResDto resDto
                 = new CommonResDto(HttpStatus.OK, "조회 완료", productDtos);
 
         return ResponseEntity.ok().body(resDto);
     }
 
+    // 서비스 간 호출 전용 상품 일괄 조회 (필요한 필드만, CommonResDto 래핑 없음)
+    // Accept: application/cbor 이면 CBOR 바이너리로, 아니면 JSON 으로 응답
+    @PostMapping(value = "/internal/products",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<ProductBriefResDto>> getProductBriefs(@RequestBody List<Long> productIds) {
+        log.debug("/product/internal/products: POST, productIds: {}", productIds);
+        return ResponseEntity.ok(productService.getProductBriefs(productIds));
+    }
+
     // 주문 취소 시에 각 상품의 재고 수량을 원복하는 요청
     @PutMapping("/cancel")
     public ResponseEntity<?> cancelProduct(@RequestBody Map<Long, Integer> map) {
@@ -0,0 +1,19 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+// 서비스 간 일괄 조회용 최소 상품 정보 (ordering-service 가 실제로 쓰는 필드만)
+// 필드 순서는 ProductRepository.findBriefByProductIdIn 의 생성자 projection 순서와 같아야 한다
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductBriefResDto {
+    private Long id;
+    private String name;
+    private int price;
+    private int stockQuantity;
+    private String mainImagePath;
+    private String thumbnailPath;
+    private String categoryName;
+}
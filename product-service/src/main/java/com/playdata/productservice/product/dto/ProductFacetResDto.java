@@ -0,0 +1,16 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+// 검색 결과의 카테고리별 상품 수
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetResDto {
+
+    private Long categoryId;
+    private String categoryName;
+    private long count;
+
+}
@@ -0,0 +1,16 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서 기반 상품 목록 응답 (다음 페이지는 cursor=nextCursor 로 요청)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductPageResDto {
+    private List<ProductSummaryResDto> products;
+    private Long nextCursor;
+    private boolean hasNext;
+}
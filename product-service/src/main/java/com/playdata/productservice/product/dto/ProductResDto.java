@@ -1,5 +1,6 @@
 package com.playdata.productservice.product.dto;
 
+import com.playdata.productservice.common.entity.ImageVariants;
 import com.playdata.productservice.product.entity.Product;
 import lombok.*;
 
@@ -22,6 +23,10 @@ public class ProductResDto {
 
     private List<String> productImages;
 
+    // 리사이즈 파생본 (목록은 listUrl, 상세는 detailUrl 사용)
+    private ImageVariants mainImageVariants;
+    private List<ImageVariants> productImageVariants;
+
     public static ProductResDto fromEntity(Product product) {
         return ProductResDto.builder()
                 .id(product.getProductId())
@@ -31,6 +36,7 @@ public class ProductResDto {
                 .stockQuantity(product.getStockQuantity())
                 .mainImagePath(product.getMainImagePath())
                 .thumbnailPath(product.getThumbnailPath())
+                .mainImageVariants(product.getMainImageVariants())
                 .categoryId(product.getCategory().getCategoryId())
                 .categoryName(product.getCategory().getCategoryName())
                 .build();
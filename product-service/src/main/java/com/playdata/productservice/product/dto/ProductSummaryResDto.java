@@ -0,0 +1,42 @@
+package com.playdata.productservice.product.dto;
+
+import com.playdata.productservice.common.entity.ImageVariants;
+import com.playdata.productservice.product.entity.Product;
+import lombok.*;
+
+// 목록/일괄 조회용 상품 정보 (상세 이미지 제외)
+// 상세 이미지 컬렉션을 건드리지 않으므로 상품 수만큼 추가 쿼리가 나가지 않는다
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSummaryResDto {
+    private Long id;
+    private String name;
+    private int price;
+    private int stockQuantity;
+    private String mainImagePath;
+    private String thumbnailPath;
+    private String description;
+    private Long categoryId;
+    private String categoryName;
+
+    // 리사이즈 파생본 (목록은 listUrl 사용)
+    private ImageVariants mainImageVariants;
+
+    // category 는 fetch join(@EntityGraph) 또는 배치 로딩으로 미리 읽혀 있어야 한다
+    public static ProductSummaryResDto fromEntity(Product product) {
+        return ProductSummaryResDto.builder()
+                .id(product.getProductId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .description(product.getDescription())
+                .stockQuantity(product.getStockQuantity())
+                .mainImagePath(product.getMainImagePath())
+                .thumbnailPath(product.getThumbnailPath())
+                .mainImageVariants(product.getMainImageVariants())
+                .categoryId(product.getCategory().getCategoryId())
+                .categoryName(product.getCategory().getCategoryName())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.playdata.productservice.product.dto;
+
+import com.playdata.productservice.product.entity.StockCommandLog;
+import lombok.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 사가 재고 명령 처리 결과 (order:stock-replies 로 ordering-service 에 전달)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockCommandResDto {
+    private Long orderId;
+    private String type; // RESERVE, RELEASE
+    private boolean success;
+    private String reason;
+    private List<Long> failedProductIds;
+
+    public static StockCommandResDto from(StockCommandLog log) {
+        String failed = log.getFailedProductIds();
+        return StockCommandResDto.builder()
+                .orderId(log.getOrderId())
+                .type(log.getCommandType().name())
+                .success(log.isSuccess())
+                .reason(log.getReason())
+                .failedProductIds(failed == null || failed.isBlank()
+                        ? List.of()
+                        : Arrays.stream(failed.split(",")).map(Long::valueOf).collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+// 재고 예약 요청 한 줄 (상품 ID + 차감할 수량)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveReqDto {
+    private Long productId;
+    private int quantity;
+}
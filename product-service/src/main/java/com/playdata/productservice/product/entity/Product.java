@@ -2,9 +2,12 @@ package com.playdata.productservice.product.entity;
 
 import com.playdata.productservice.category.entity.Category;
 import com.playdata.productservice.common.entity.BaseTimeEntity;
+import com.playdata.productservice.common.entity.ImageVariants;
 import com.playdata.productservice.product.dto.ProductResDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,7 +17,11 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_product")
+@Table(name = "tbl_product", indexes = {
+        @Index(name = "idx_product_name", columnList = "name"),
+        @Index(name = "idx_product_main_hash", columnList = "main_content_hash"),
+        @Index(name = "idx_product_thumbnail_hash", columnList = "thumbnail_hash")
+})
 public class Product extends BaseTimeEntity {
 
     @Id
@@ -37,11 +44,37 @@ public class Product extends BaseTimeEntity {
     @Column(length = 1000)
     private String thumbnailPath;
 
+    // 대표 이미지 파생본 (업로드 시 생성)
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "contentHash", column = @Column(name = "main_content_hash", length = 64)),
+            @AttributeOverride(name = "thumbnailUrl", column = @Column(name = "main_thumbnail_url", length = 1000)),
+            @AttributeOverride(name = "listUrl", column = @Column(name = "main_list_url", length = 1000)),
+            @AttributeOverride(name = "detailUrl", column = @Column(name = "main_detail_url", length = 1000))
+    })
+    private ImageVariants mainImageVariants;
+
+    // 썸네일 원본의 내용 해시 (thumbnailPath 는 썸네일 파생본 URL)
+    @Column(name = "thumbnail_hash", length = 64)
+    private String thumbnailHash;
+
     private String description;
 
+    // 상세 응답 버전 (ETag). 상품 수정, 재고 변경, 카테고리 변경 때마다 1씩 증가
+    // 동시 수정을 막는 @Version 이 아니라 캐시 검증용 카운터
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long revision;
+
+    // 여러 상품의 상세 이미지를 읽을 때 상품마다가 아니라 IN 으로 묶어서 로딩
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<ProductImages> productImages;
 
+    public void increaseRevision() {
+        this.revision++;
+    }
+
     public void decreaseQuantity(Long quantity){
         if (this.stockQuantity - quantity < 0) {
             throw new RuntimeException("재고는 0 미만이 될 수 없어요!");
@@ -62,6 +95,12 @@ public class Product extends BaseTimeEntity {
                 .stockQuantity(stockQuantity)
                 .mainImagePath(mainImagePath)
                 .thumbnailPath(thumbnailPath)
+                .mainImageVariants(mainImageVariants)
+                .productImageVariants(
+                    this.productImages.stream()
+                            .map(ProductImages::getVariants)
+                            .collect(Collectors.toList())
+                )
                 .productImages(
                     this.productImages.stream()
                             .map(ProductImages::getImgUrl)
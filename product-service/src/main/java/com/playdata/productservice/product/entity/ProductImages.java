@@ -1,5 +1,6 @@
 package com.playdata.productservice.product.entity;
 
+import com.playdata.productservice.common.entity.ImageVariants;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,9 @@ import lombok.ToString;
 @Getter
 @Setter
 @ToString
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = {
+        @Index(name = "idx_product_images_hash", columnList = "content_hash")
+})
 public class    ProductImages {
 
     @Id
@@ -23,6 +26,9 @@ public class    ProductImages {
     @Column(name = "img_order", nullable = false)
     private int imgOrder;
 
+    @Embedded
+    private ImageVariants variants; // 파생본 URL + 내용 해시
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
@@ -0,0 +1,48 @@
+package com.playdata.productservice.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 주문 사가 재고 명령 처리 기록
+// 같은 주문의 같은 명령은 한 번만 반영되도록 (order_id, command_type) 을 유니크로 둔다
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_stock_command_log", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_command_order_type", columnNames = {"order_id", "command_type"})
+})
+public class StockCommandLog {
+
+    public enum CommandType {
+        RESERVE, RELEASE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "command_type", nullable = false)
+    private CommandType commandType;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    private String reason;
+
+    // 실패한 상품 ID (쉼표 구분)
+    @Column(name = "failed_product_ids", length = 1000)
+    private String failedProductIds;
+
+    @Builder.Default
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt = LocalDateTime.now();
+
+}
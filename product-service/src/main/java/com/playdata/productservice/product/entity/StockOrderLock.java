@@ -0,0 +1,29 @@
+package com.playdata.productservice.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 주문별 재고 명령 직렬화용 잠금 행
+// 같은 주문의 예약/해제는 이 행을 FOR UPDATE 로 잡은 뒤에만 처리 기록을 보고 결정한다
+// 멱등성은 처리 기록(StockCommandLog)이 보장하므로 오래된 행은 StockOrderLocks.purge 가 지운다
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_stock_order_lock", indexes = {
+        @Index(name = "idx_stock_order_lock_created", columnList = "created_at")
+})
+public class StockOrderLock {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+}
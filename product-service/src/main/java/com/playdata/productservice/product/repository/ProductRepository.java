@@ -1,30 +1,139 @@
 package com.playdata.productservice.product.repository;
 
+import com.playdata.productservice.product.dto.ProductBriefResDto;
 import com.playdata.productservice.product.entity.Product;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 검색 조건(카테고리, 검색어)에 따른 페이징
+    // 목록 화면은 전체 건수를 쓰지 않으므로 Slice 로 받아 count 쿼리를 생략한다
+    // 목록/일괄 조회는 카테고리 이름을 함께 내려주므로 category 를 fetch join (@EntityGraph)
+    @EntityGraph(attributePaths = "category")
+    Slice<Product> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.category.categoryId = ?1")
-    Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+    Slice<Product> findByCategoryId(Long categoryId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.name LIKE %?1%")
-    Page<Product> findByNameValue(String keyword,
+    Slice<Product> findByNameValue(String keyword,
                                   Pageable pageable);
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p JOIN p.category c WHERE p.name LIKE %:name% AND c.categoryId = :categoryId")
-    Page<Product> findByNameValueAndCategory_CategoryId(@Param("name") String name, @Param("categoryId") Long categoryId, Pageable pageable);
+    Slice<Product> findByNameValueAndCategory_CategoryId(@Param("name") String name, @Param("categoryId") Long categoryId, Pageable pageable);
+
+    // 커서 기반 목록 (무한 스크롤): cursor 보다 작은 상품 ID 를 최신순으로
+    // OFFSET 없이 PK 범위로 읽으므로 뒤쪽 페이지도 첫 페이지와 비용이 같다
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:cursor IS NULL OR p.productId < :cursor) " +
+            "AND (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
+            "ORDER BY p.productId DESC")
+    Slice<Product> findPageAfter(@Param("cursor") Long cursor,
+                                 @Param("categoryId") Long categoryId,
+                                 @Param("name") String name,
+                                 Pageable pageable);
+
+    // 상품명 전문 검색 (ProductSearchIndex 의 FULLTEXT ngram 인덱스 사용), 관련도 순
+    // 목록 화면은 전체 건수를 쓰지 않으므로 count 쿼리 없이 List 로 받는다
+    @Query(value = "SELECT p.* FROM tbl_product p " +
+            "WHERE MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "AND (:categoryId IS NULL OR p.category_id = :categoryId) " +
+            "ORDER BY MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) DESC, p.product_id DESC",
+            nativeQuery = true)
+    List<Product> searchByName(@Param("query") String query,
+                               @Param("categoryId") Long categoryId,
+                               Pageable pageable);
+
+    // 전문 검색 + 커서 (무한 스크롤은 관련도 대신 최신순)
+    @Query(value = "SELECT p.* FROM tbl_product p " +
+            "WHERE MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "AND (:categoryId IS NULL OR p.category_id = :categoryId) " +
+            "AND (:cursor IS NULL OR p.product_id < :cursor) " +
+            "ORDER BY p.product_id DESC",
+            nativeQuery = true)
+    List<Product> searchByNameAfter(@Param("query") String query,
+                                    @Param("categoryId") Long categoryId,
+                                    @Param("cursor") Long cursor,
+                                    Pageable pageable);
 
+    // 검색 결과의 카테고리별 상품 수
+    @Query(value = "SELECT c.category_id AS categoryId, c.category_name AS categoryName, COUNT(*) AS count " +
+            "FROM tbl_product p JOIN tbl_categories c ON c.category_id = p.category_id " +
+            "WHERE MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "GROUP BY c.category_id, c.category_name ORDER BY count DESC",
+            nativeQuery = true)
+    List<CategoryFacet> searchFacets(@Param("query") String query);
+
+    // 전문 검색을 쓸 수 없을 때(짧은 검색어, 인덱스 없음)의 카테고리별 상품 수
+    @Query("SELECT c.categoryId AS categoryId, c.categoryName AS categoryName, COUNT(p) AS count " +
+            "FROM Product p JOIN p.category c WHERE p.name LIKE %:name% " +
+            "GROUP BY c.categoryId, c.categoryName ORDER BY COUNT(p) DESC")
+    List<CategoryFacet> likeFacets(@Param("name") String name);
+
+    // 자동완성: 상품명 앞부분 일치 (idx_product_name 인덱스 범위 검색)
+    @Query("SELECT DISTINCT p.name FROM Product p WHERE p.name LIKE CONCAT(:prefix, '%') ESCAPE '!' ORDER BY p.name")
+    List<String> findNamesByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     List<Product> findByProductIdIn(List<Long> ids);
 
+    // 서비스 간 일괄 조회: 엔티티 대신 필요한 컬럼만 한 번의 조인으로
+    @Query("SELECT new com.playdata.productservice.product.dto.ProductBriefResDto(" +
+            "p.productId, p.name, p.price, p.stockQuantity, p.mainImagePath, p.thumbnailPath, c.categoryName) " +
+            "FROM Product p JOIN p.category c WHERE p.productId IN :ids")
+    List<ProductBriefResDto> findBriefByProductIdIn(@Param("ids") List<Long> ids);
+
     Long countByCategory_CategoryIdIn(List<Long> categoryIds);
 
+    // 내용 해시가 같은 이미지를 아직 쓰고 있는지 (S3 객체 삭제 전 확인)
+    @Query("SELECT COUNT(p) > 0 FROM Product p " +
+            "WHERE p.mainImageVariants.contentHash = :hash OR p.thumbnailHash = :hash")
+    boolean existsByImageHash(@Param("hash") String hash);
+
+    @Query("SELECT COUNT(i) > 0 FROM ProductImages i WHERE i.variants.contentHash = :hash")
+    boolean existsDetailImageByHash(@Param("hash") String hash);
+
+    // 재고가 충분할 때만 차감 (조건부 UPDATE -> 동시 주문에도 초과 판매 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.revision = p.revision + 1 " +
+            "WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 재고 원복 (주문 취소 / 예약 보상)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, p.revision = p.revision + 1 " +
+            "WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 상세 응답 ETag 확인용 (상품 전체 대신 revision 만)
+    @Query("SELECT p.revision FROM Product p WHERE p.productId = :productId")
+    Optional<Long> findRevisionByProductId(@Param("productId") Long productId);
+
+    // 카테고리 이름/이미지가 바뀌면 그 카테고리 상품들의 상세 응답도 바뀐다
+    // tbl_product 만 건드리는 UPDATE 라 수정 중인 카테고리가 자동 flush 되지 않으므로 먼저 flush 한 뒤 비운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.revision = p.revision + 1 WHERE p.category.categoryId = :categoryId")
+    int increaseRevisionByCategoryId(@Param("categoryId") Long categoryId);
+
+    interface CategoryFacet {
+        Long getCategoryId();
+        String getCategoryName();
+        long getCount();
+    }
+
 }
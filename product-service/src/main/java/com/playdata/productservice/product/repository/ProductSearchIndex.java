@@ -0,0 +1,103 @@
+package com.playdata.productservice.product.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 상품명 전문 검색 인덱스 (MySQL FULLTEXT + ngram 파서)
+// JPA @Index 로는 FULLTEXT 를 만들 수 없어서 DDL 스크립트(resources/db/product-search-index.sql)로 만든다.
+// 한글 상품명은 공백 단위로 나뉘지 않으므로 ngram(기본 2글자) 토큰으로 색인한다.
+// 인덱스는 MySQL 이 INSERT/UPDATE/DELETE 때 함께 갱신하므로 별도 동기화가 필요 없다.
+// 시작 시 인덱스가 있는지 확인하고, 없으면 LIKE 검색으로 동작하면서 주기적으로 다시 확인한다.
+@Component
+@Slf4j
+public class ProductSearchIndex implements ApplicationRunner {
+
+    public static final String INDEX_NAME = "ft_product_name";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 로컬 개발용: 인덱스가 없으면 시작 시 직접 만든다 (운영은 DDL 스크립트로)
+    private final boolean createOnStartup;
+
+    // MySQL 이 아니거나 인덱스가 아직 없으면 LIKE 검색으로 동작
+    private volatile boolean available;
+    private volatile boolean mysql;
+
+    public ProductSearchIndex(JdbcTemplate jdbcTemplate,
+                              @Value("${product.search.create-index-on-startup:false}") boolean createOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.createOnStartup = createOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(database)) {
+                log.info("전문 검색 인덱스 미사용 (database={})", database);
+                return;
+            }
+            mysql = true;
+
+            available = indexExists();
+            if (!available && createOnStartup) {
+                create();
+            }
+            if (!available) {
+                log.warn("상품명 전문 검색 인덱스({})가 없어 LIKE 검색으로 동작합니다. db/product-search-index.sql 을 실행하세요.",
+                        INDEX_NAME);
+            }
+        } catch (DataAccessException e) {
+            log.error("상품명 전문 검색 인덱스 확인 실패, LIKE 검색으로 동작: {}", e.getMessage());
+        }
+    }
+
+    // 인덱스가 나중에 만들어지면 재시작 없이 전문 검색으로 전환
+    @Scheduled(fixedDelayString = "${product.search.index-check-interval-ms:600000}",
+            initialDelayString = "${product.search.index-check-interval-ms:600000}")
+    public void recheck() {
+        if (!mysql || available) return;
+        try {
+            if (indexExists()) {
+                available = true;
+                log.info("상품명 전문 검색 인덱스 확인, 전문 검색으로 전환: {}", INDEX_NAME);
+            }
+        } catch (DataAccessException e) {
+            log.warn("상품명 전문 검색 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private void create() {
+        try {
+            log.info("상품명 전문 검색 인덱스 생성: {}", INDEX_NAME);
+            jdbcTemplate.execute(
+                    "ALTER TABLE tbl_product ADD FULLTEXT INDEX " + INDEX_NAME + " (name) WITH PARSER ngram");
+            available = true;
+        } catch (DataAccessException e) {
+            // 여러 인스턴스가 동시에 시작하면 한쪽은 중복 인덱스 오류를 받는다. 다른 쪽이 만들었으면 성공으로 본다
+            available = indexExists();
+            if (!available) {
+                log.error("상품명 전문 검색 인덱스 생성 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'tbl_product' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+}
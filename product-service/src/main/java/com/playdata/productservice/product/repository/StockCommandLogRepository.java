@@ -0,0 +1,11 @@
+package com.playdata.productservice.product.repository;
+
+import com.playdata.productservice.product.entity.StockCommandLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface StockCommandLogRepository extends JpaRepository<StockCommandLog, Long> {
+
+    Optional<StockCommandLog> findByOrderIdAndCommandType(Long orderId, StockCommandLog.CommandType commandType);
+}
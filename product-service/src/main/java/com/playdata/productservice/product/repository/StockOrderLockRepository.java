@@ -0,0 +1,25 @@
+package com.playdata.productservice.product.repository;
+
+import com.playdata.productservice.product.entity.StockOrderLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StockOrderLockRepository extends JpaRepository<StockOrderLock, Long> {
+
+    // 같은 주문의 다른 명령이 끝날 때까지 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM StockOrderLock l WHERE l.orderId = :orderId")
+    Optional<StockOrderLock> findForUpdate(@Param("orderId") Long orderId);
+
+    // 명령이 다시 올 일이 없는 오래된 주문의 잠금 행 정리
+    @Modifying
+    @Query("DELETE FROM StockOrderLock l WHERE l.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
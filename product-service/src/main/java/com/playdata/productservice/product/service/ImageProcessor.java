@@ -0,0 +1,127 @@
+package com.playdata.productservice.product.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+// 업로드 이미지의 내용 해시 계산 + 리사이즈 파생본(JPEG) 생성
+// CPU 작업이므로 ProductImageUploader 가 imageProcessingExecutor 에서 호출한다.
+@Component
+public class ImageProcessor {
+
+    // 파생본 이름과 최대 가로 크기 (원본이 더 작으면 확대하지 않음)
+    public enum Variant {
+        THUMBNAIL("thumbnail", 200),
+        LIST("list", 480),
+        DETAIL("detail", 1080);
+
+        private final String key;
+        private final int maxWidth;
+
+        Variant(String key, int maxWidth) {
+            this.key = key;
+            this.maxWidth = maxWidth;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    // 멀티파트 임시 파일을 스트림으로 읽으면서 해시 계산 (파일 전체를 힙에 올리지 않음)
+    public String contentHash(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 이미지가 아니면 빈 목록
+    public List<Derivative> derivatives(MultipartFile file) throws IOException {
+        BufferedImage source;
+        try (InputStream in = file.getInputStream()) {
+            source = ImageIO.read(in);
+        }
+        if (source == null) return List.of();
+
+        List<Derivative> result = new ArrayList<>();
+        for (Variant variant : Variant.values()) {
+            result.add(new Derivative(variant, toJpeg(resize(source, variant.maxWidth))));
+        }
+        return result;
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // JPEG 는 알파 채널이 없으므로 흰 배경 RGB 로 그린다
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Derivative {
+        private final Variant variant;
+        private final byte[] bytes;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.playdata.productservice.product.service;
+
+import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 내용 해시 기반 이미지 키(images/{sha256}/...)가 아직 상품/리뷰에서 쓰이는지 확인
+// 같은 파일을 여러 상품/리뷰가 공유하므로 S3 객체는 참조가 모두 사라졌을 때만 지운다.
+@Component
+@RequiredArgsConstructor
+public class ImageReferenceChecker {
+
+    private static final Pattern HASH_IN_KEY = Pattern.compile("(?:^|/)images/([0-9a-f]{64})/");
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 해시 키가 아니면(이전 방식 UUID 파일명) null
+    public String hashOf(String keyOrUrl) {
+        Matcher matcher = HASH_IN_KEY.matcher(keyOrUrl);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public boolean isReferenced(String hash) {
+        return productRepository.existsByImageHash(hash)
+                || productRepository.existsDetailImageByHash(hash)
+                || reviewRepository.existsByMediaVariantsContentHash(hash);
+    }
+}
@@ -0,0 +1,92 @@
+package com.playdata.productservice.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.playdata.productservice.common.dto.CommonResDto;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 상품 상세 응답(JSON)을 (상품 ID, revision) 기준으로 캐시
+// - revision 은 상품/재고/카테고리가 바뀔 때마다 증가하는 컬럼이라 ETag 로 그대로 쓴다
+// - 요청마다 revision 만 PK 로 조회해서, 같으면 304 또는 캐시된 바이트를 그대로 내려준다
+// - 다른 인스턴스에서 바뀌어도 revision 이 달라지므로 오래된 캐시를 내보내지 않는다
+@Component
+public class ProductDetailCache {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Rendered> cache;
+
+    public ProductDetailCache(ProductRepository productRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${product.detail.cache.max-size:10000}") long maxSize) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public String etag(Long productId) {
+        long revision = productRepository.findRevisionByProductId(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product with id: " + productId + " not found"));
+        return etagOf(productId, revision);
+    }
+
+    // 캐시에 있는 revision 이 현재 etag 와 같으면 그대로, 아니면 다시 읽어서 직렬화
+    @Transactional(readOnly = true)
+    public Rendered render(Long productId, String currentEtag) {
+        Rendered cached = cache.getIfPresent(productId);
+        if (cached != null && cached.getEtag().equals(currentEtag)) {
+            return cached;
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product with id: " + productId + " not found"));
+        CommonResDto resDto = new CommonResDto(HttpStatus.OK, "조회 완료", product.fromEntity());
+        try {
+            Rendered rendered = new Rendered(etagOf(productId, product.getRevision()),
+                    objectMapper.writeValueAsBytes(resDto));
+            cache.put(productId, rendered);
+            return rendered;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("상품 상세 직렬화 실패", e);
+        }
+    }
+
+    // 상품 변경 후 호출. 트랜잭션 안이면 커밋이 끝난 뒤에도 한 번 더 비운다
+    // (커밋 전에 다른 요청이 옛 값을 다시 넣었을 수 있음)
+    public void evict(Long productId) {
+        cache.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    private String etagOf(Long productId, long revision) {
+        return "\"" + productId + "-" + revision + "\"";
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Rendered {
+        private final String etag;
+        private final byte[] body; // CommonResDto JSON
+    }
+}
@@ -0,0 +1,52 @@
+package com.playdata.productservice.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 상품 정보가 바뀌었음을 Redis 채널로 알림 (ordering-service의 로컬 상품 캐시 무효화용)
+// 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 발행해서, 알림을 받은 쪽이 옛 데이터를 다시 읽지 않게 한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductEventPublisher {
+
+    public static final String CHANNEL = "product:changed";
+    // 전체 무효화 (카테고리 이름 변경/삭제처럼 여러 상품에 걸친 변경)
+    public static final String ALL = "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void productChanged(Long productId) {
+        publishAfterCommit(String.valueOf(productId));
+    }
+
+    public void allChanged() {
+        publishAfterCommit(ALL);
+    }
+
+    private void publishAfterCommit(String message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(message);
+                }
+            });
+        } else {
+            send(message);
+        }
+    }
+
+    private void send(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 발행에 실패해도 상품 변경 자체는 유지 (받는 쪽 캐시는 TTL로 정리됨)
+            log.warn("상품 변경 알림 발행 실패 ({}): {}", message, e.getMessage());
+        }
+    }
+}
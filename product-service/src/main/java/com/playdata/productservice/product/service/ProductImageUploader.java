@@ -0,0 +1,249 @@
+package com.playdata.productservice.product.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.common.entity.ImageVariants;
+import com.playdata.productservice.storage.service.ImageUploadLeases;
+import com.playdata.productservice.storage.service.S3DeletionQueue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// 상품/리뷰 이미지 여러 장을 S3에 동시에 업로드
+// - 원본은 내용 해시 기반 키(images/{sha256}/original)에 저장해서 같은 파일은 한 번만 올라간다
+// - 이미지면 썸네일/목록/상세 파생본(JPEG)을 업로드 시 한 번 만들어 같은 폴더에 둔다 (이미 올라간 파일이면 리사이즈 생략)
+// - 존재 확인 전에 해시 임대를 잡아서, 트랜잭션이 끝날 때까지 S3DeletionWorker 가 같은 파일을 지우지 않게 한다
+// - 해시/리사이즈는 imageProcessingExecutor, S3 전송은 s3UploadExecutor 에서 처리
+// - 한 장이라도 실패하거나 트랜잭션이 롤백되면 이번 요청에서 새로 만든 객체만 지운다
+// - 삭제는 모두 S3DeletionQueue(아웃박스)를 거쳐 S3DeletionWorker 가 일괄 처리
+@Component
+@Slf4j
+public class ProductImageUploader {
+
+    private static final String KEY_PREFIX = "images/";
+    private static final String ORIGINAL = "original";
+
+    private final AwsS3Config s3Config;
+    private final ImageProcessor imageProcessor;
+    private final ImageReferenceChecker referenceChecker;
+    private final S3DeletionQueue deletionQueue;
+    private final ImageUploadLeases uploadLeases;
+    private final Executor s3UploadExecutor;
+    private final Executor imageProcessingExecutor;
+
+    public ProductImageUploader(AwsS3Config s3Config,
+                                ImageProcessor imageProcessor,
+                                ImageReferenceChecker referenceChecker,
+                                S3DeletionQueue deletionQueue,
+                                ImageUploadLeases uploadLeases,
+                                @Qualifier("s3UploadExecutor") Executor s3UploadExecutor,
+                                @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor) {
+        this.s3Config = s3Config;
+        this.imageProcessor = imageProcessor;
+        this.referenceChecker = referenceChecker;
+        this.deletionQueue = deletionQueue;
+        this.uploadLeases = uploadLeases;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+    }
+
+    // 결과는 files 순서와 같다
+    public List<StoredImage> uploadAll(List<MultipartFile> files) {
+        List<CompletableFuture<StoredImage>> futures = new ArrayList<>(files.size());
+        List<Long> leaseIds = Collections.synchronizedList(new ArrayList<>());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> hash(file), imageProcessingExecutor)
+                    .thenApplyAsync(hash -> {
+                        leaseIds.add(uploadLeases.acquire(hash));
+                        return findExisting(hash);
+                    }, s3UploadExecutor)
+                    .thenCompose(lookup -> lookup.getExisting() != null
+                            ? CompletableFuture.completedFuture(lookup.getExisting())
+                            : CompletableFuture
+                                .supplyAsync(() -> derivatives(file), imageProcessingExecutor)
+                                .thenApplyAsync(derivatives -> store(file, lookup.getHash(), derivatives), s3UploadExecutor)));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 성공한 업로드가 새로 만든 객체만 보상 삭제
+            List<String> created = new ArrayList<>();
+            for (CompletableFuture<StoredImage> future : futures) {
+                if (!future.isCompletedExceptionally()) created.addAll(future.join().getCreatedUrls());
+            }
+            deleteQuietly(created);
+            uploadLeases.release(leaseIds);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("이미지 업로드 실패: {}", cause.getMessage());
+            throw new RuntimeException("이미지 업로드 실패: " + cause.getMessage(), cause);
+        }
+
+        List<StoredImage> stored = new ArrayList<>(futures.size());
+        List<String> created = new ArrayList<>();
+        for (CompletableFuture<StoredImage> future : futures) {
+            StoredImage image = future.join();
+            stored.add(image);
+            created.addAll(image.getCreatedUrls());
+        }
+        afterCompletion(created, leaseIds);
+        return stored;
+    }
+
+    // 더 이상 쓰지 않는 이미지 삭제 요청을 현재 트랜잭션의 삭제 아웃박스에 기록
+    // 커밋되어야 삭제되고, 같은 내용을 다른 상품/리뷰가 쓰고 있으면 워커가 남겨 둔다.
+    public void deleteUnreferenced(Collection<String> urls) {
+        Set<String> handledHashes = new HashSet<>();
+        Set<String> legacyUrls = new LinkedHashSet<>();
+        List<String> keys = new ArrayList<>();
+        for (String url : urls) {
+            if (url == null || url.isBlank()) continue;
+            String hash = referenceChecker.hashOf(url);
+            if (hash == null) {
+                legacyUrls.add(url); // 해시 키 도입 전 업로드된 파일
+                continue;
+            }
+            if (!handledHashes.add(hash)) continue;
+            keys.add(key(hash, ORIGINAL));
+            for (ImageProcessor.Variant variant : ImageProcessor.Variant.values()) {
+                keys.add(variantKey(hash, variant));
+            }
+        }
+        deletionQueue.enqueueUrls(legacyUrls);
+        deletionQueue.enqueueKeys(keys);
+    }
+
+    private String hash(MultipartFile file) {
+        try {
+            return imageProcessor.contentHash(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ImageProcessor.Derivative> derivatives(MultipartFile file) {
+        try {
+            return imageProcessor.derivatives(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이미 올라간 같은 파일이 있으면 그 URL 들을 그대로 쓴다 (임대를 잡은 뒤에 확인해야 함)
+    private Lookup findExisting(String hash) {
+        String originalKey = key(hash, ORIGINAL);
+        if (!s3Config.exists(originalKey)) {
+            return new Lookup(hash, null);
+        }
+        // 원본은 파생본을 모두 올린 뒤에 마지막으로 올리므로, 원본이 있으면 파생본도 있다
+        // 파생본은 전부 있거나(이미지) 전부 없으므로(이미지가 아닌 파일) 썸네일 하나로 판단
+        Map<ImageProcessor.Variant, String> variantUrls = new EnumMap<>(ImageProcessor.Variant.class);
+        if (s3Config.exists(variantKey(hash, ImageProcessor.Variant.THUMBNAIL))) {
+            for (ImageProcessor.Variant variant : ImageProcessor.Variant.values()) {
+                variantUrls.put(variant, s3Config.getUrl(variantKey(hash, variant)));
+            }
+        }
+        return new Lookup(hash, new StoredImage(s3Config.getUrl(originalKey), toVariants(hash, variantUrls), List.of()));
+    }
+
+    private StoredImage store(MultipartFile file, String hash, List<ImageProcessor.Derivative> derivatives) {
+        String originalKey = key(hash, ORIGINAL);
+        Map<ImageProcessor.Variant, String> variantUrls = new EnumMap<>(ImageProcessor.Variant.class);
+        List<String> created = new ArrayList<>();
+
+        try {
+            for (ImageProcessor.Derivative derivative : derivatives) {
+                String url = s3Config.uploadToS3Bucket(derivative.getBytes(), "image/jpeg",
+                        variantKey(hash, derivative.getVariant()));
+                created.add(url);
+                variantUrls.put(derivative.getVariant(), url);
+            }
+            String originalUrl;
+            try (var in = file.getInputStream()) {
+                originalUrl = s3Config.uploadToS3Bucket(in, file.getSize(), file.getContentType(), originalKey);
+            }
+            created.add(originalUrl);
+            return new StoredImage(originalUrl, toVariants(hash, variantUrls), created);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(created);
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        }
+    }
+
+    private ImageVariants toVariants(String hash, Map<ImageProcessor.Variant, String> urls) {
+        return ImageVariants.builder()
+                .contentHash(hash)
+                .thumbnailUrl(urls.get(ImageProcessor.Variant.THUMBNAIL))
+                .listUrl(urls.get(ImageProcessor.Variant.LIST))
+                .detailUrl(urls.get(ImageProcessor.Variant.DETAIL))
+                .build();
+    }
+
+    private String key(String hash, String name) {
+        return KEY_PREFIX + hash + "/" + name;
+    }
+
+    private String variantKey(String hash, ImageProcessor.Variant variant) {
+        return key(hash, variant.getKey() + ".jpg");
+    }
+
+    // 트랜잭션이 끝나면 임대를 풀고, 롤백이면 이번 요청에서 새로 만든 객체만 지운다
+    // (커밋되면 상품/리뷰가 해시를 참조하므로 워커가 지우지 않는다)
+    private void afterCompletion(List<String> createdUrls, List<Long> leaseIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            uploadLeases.release(leaseIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(createdUrls);
+                }
+                uploadLeases.release(leaseIds);
+            }
+        });
+    }
+
+    // 보상 삭제는 바깥 트랜잭션 결과와 상관없이 별도 트랜잭션으로 아웃박스에 남긴다
+    private void deleteQuietly(Collection<String> urls) {
+        if (urls.isEmpty()) return;
+        try {
+            deletionQueue.enqueueUrlsNow(urls);
+        } catch (Exception e) {
+            log.warn("S3 이미지 삭제 요청 기록 실패 urls={}: {}", urls, e.getMessage());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Lookup {
+        private final String hash;
+        private final StoredImage existing; // 이미 올라간 파일이 없으면 null
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredImage {
+        private final String url; // 원본 URL
+        private final ImageVariants variants;
+        private final List<String> createdUrls; // 이번 업로드로 새로 생긴 객체 (보상 삭제 대상)
+
+        // 썸네일 파생본이 있으면 그것을, 없으면 원본을
+        public String thumbnailOrOriginal() {
+            return variants.getThumbnailUrl() != null ? variants.getThumbnailUrl() : url;
+        }
+    }
+}
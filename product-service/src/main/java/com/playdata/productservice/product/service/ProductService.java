@@ -2,19 +2,24 @@ package com.playdata.productservice.product.service;
 
 import com.playdata.productservice.category.entity.Category;
 import com.playdata.productservice.category.repository.CategoryRepository;
-import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.dto.ProductBriefResDto;
+import com.playdata.productservice.product.dto.ProductFacetResDto;
+import com.playdata.productservice.product.dto.ProductPageResDto;
 import com.playdata.productservice.product.dto.ProductResDto;
 import com.playdata.productservice.product.dto.ProductSaveReqDto;
 import com.playdata.productservice.product.dto.ProductSearchDto;
+import com.playdata.productservice.product.dto.ProductSummaryResDto;
 import com.playdata.productservice.product.dto.ProductUpdateDto;
 import com.playdata.productservice.product.entity.Product;
 import com.playdata.productservice.product.entity.ProductImages;
 import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.product.repository.ProductSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,7 +28,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,44 +39,42 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
-    private final AwsS3Config s3Config;
+    private final ProductEventPublisher productEventPublisher;
+    private final ProductImageUploader imageUploader;
+    private final ProductSearchIndex searchIndex;
+    private final ProductDetailCache productDetailCache;
 
     public Product productCreate(ProductSaveReqDto dto) throws IOException {
 
-        MultipartFile mainImage = dto.getMainImage();
-        MultipartFile thumbnailImage = dto.getThumbnailImage();
-
-
-        String uniqueMainImageName
-                = UUID.randomUUID() + "_" + mainImage.getOriginalFilename();
-        String uniqueThumbnailImageName
-                = UUID.randomUUID() + "_" + thumbnailImage.getOriginalFilename();
-
-        String mainImageUrl
-                = s3Config.uploadToS3Bucket(mainImage.getBytes(), uniqueMainImageName);
-        String thumbnailImageUrl
-                = s3Config.uploadToS3Bucket(thumbnailImage.getBytes(), uniqueThumbnailImageName);
-
         Category category = categoryRepository.findByCategoryId(dto.getCategoryId())
                 .orElseThrow(() -> new EntityNotFoundException("category not found"));
 
-        dto.setMainImagePath(mainImageUrl);
-        dto.setThumbnailPath(thumbnailImageUrl);
+        // 대표 이미지, 썸네일, 상세 이미지를 한 번에 동시 업로드 (순서: 대표, 썸네일, 상세...)
+        List<MultipartFile> files = new ArrayList<>();
+        files.add(dto.getMainImage());
+        files.add(dto.getThumbnailImage());
+        if (dto.getImages() != null) files.addAll(dto.getImages());
+
+        List<ProductImageUploader.StoredImage> stored = imageUploader.uploadAll(files);
+
+        ProductImageUploader.StoredImage main = stored.get(0);
+        ProductImageUploader.StoredImage thumbnail = stored.get(1);
+        dto.setMainImagePath(main.getUrl());
+        // 썸네일은 원본 대신 썸네일 크기 파생본을 노출
+        dto.setThumbnailPath(thumbnail.thumbnailOrOriginal());
         Product product = dto.toEntity(category);
+        product.setMainImageVariants(main.getVariants());
+        product.setThumbnailHash(thumbnail.getVariants().getContentHash());
 
 
         List<ProductImages> images = new ArrayList<>();
 
 
-        for (int i =0; i<dto.getImages().size(); i++) {
-            MultipartFile image = dto.getImages().get(i);
+        for (int i = 2; i < stored.size(); i++) {
             ProductImages productImages = new ProductImages();
-            String uniqueImageName
-                    = UUID.randomUUID() + "_" + image.getOriginalFilename();
-            String imageUrl
-                    = s3Config.uploadToS3Bucket(image.getBytes(), uniqueImageName);
-            productImages.setImgUrl(imageUrl);
-            productImages.setImgOrder(i);
+            productImages.setImgUrl(stored.get(i).getUrl());
+            productImages.setVariants(stored.get(i).getVariants());
+            productImages.setImgOrder(i - 2);
             productImages.setProduct(product);
             images.add(productImages);
         }
@@ -83,28 +86,117 @@ public class ProductService {
 
     }
 
-    public List<ProductResDto> productList(ProductSearchDto dto, Pageable pageable) {
-        Page<Product> products;
-        if ( dto.getSearchType() == null || "ALL".equals(dto.getSearchType())) {
-            if (dto.getSearchName() != null && !dto.getSearchName().isEmpty()) {
-                products = productRepository.findByNameValue(dto.getSearchName(), pageable);
+    // 커서 기반 목록 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    // 상품명 자동완성 최대 개수
+    private static final int SUGGEST_LIMIT = 10;
+    // ngram 토큰 크기 (MySQL ngram_token_size 기본값). 이보다 짧은 검색어는 전문 검색에 걸리지 않는다
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    @Transactional(readOnly = true)
+    public List<ProductSummaryResDto> productList(ProductSearchDto dto, Pageable pageable) {
+        Long categoryId = resolveCategoryId(dto.getSearchType());
+        String keyword = dto.getSearchName();
+
+        List<Product> productList;
+        if (keyword != null && !keyword.isBlank()) {
+            String query = toFullTextQuery(keyword);
+            if (query != null) {
+                // 관련도 순 정렬이므로 요청의 정렬 조건은 쓰지 않는다
+                productList = productRepository.searchByName(query, categoryId,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+            } else if (categoryId == null) {
+                productList = productRepository.findByNameValue(keyword.trim(), pageable).getContent();
             } else {
-                products = productRepository.findAll(pageable);
+                productList = productRepository.findByNameValueAndCategory_CategoryId(keyword.trim(), categoryId, pageable).getContent();
             }
+        } else if (categoryId == null) {
+            productList = productRepository.findAllBy(pageable).getContent();
         } else {
-            Long categoryId = Long.parseLong(dto.getSearchType());
-            if (dto.getSearchName() != null && !dto.getSearchName().isEmpty()) {
-                products = productRepository.findByNameValueAndCategory_CategoryId(dto.getSearchName(), categoryId, pageable);
-            } else {
-                products = productRepository.findByCategoryId(categoryId, pageable);
-            }
+            productList = productRepository.findByCategoryId(categoryId, pageable).getContent();
         }
 
-        List<Product> productList = products.getContent();
-
         return productList.stream()
-                .map(Product::fromEntity)
+                .map(ProductSummaryResDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // 커서 기반 목록 (무한 스크롤). cursor 가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public ProductPageResDto productPage(ProductSearchDto dto, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Long categoryId = resolveCategoryId(dto.getSearchType());
+        String keyword = dto.getSearchName() == null || dto.getSearchName().isBlank()
+                ? null : dto.getSearchName().trim();
+
+        List<Product> productList;
+        boolean hasNext;
+        String query = keyword != null ? toFullTextQuery(keyword) : null;
+        if (query != null) {
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+            productList = productRepository.searchByNameAfter(query, categoryId, cursor,
+                    PageRequest.of(0, pageSize + 1));
+            hasNext = productList.size() > pageSize;
+            if (hasNext) productList = productList.subList(0, pageSize);
+        } else {
+            Slice<Product> slice = productRepository.findPageAfter(cursor, categoryId, keyword,
+                    PageRequest.of(0, pageSize));
+            productList = slice.getContent();
+            hasNext = slice.hasNext();
+        }
+
+        List<ProductSummaryResDto> products = productList.stream()
+                .map(ProductSummaryResDto::fromEntity)
                 .collect(Collectors.toList());
+        Long nextCursor = hasNext ? productList.get(productList.size() - 1).getProductId() : null;
+        return new ProductPageResDto(products, nextCursor, hasNext);
+    }
+
+    // 검색어에 걸리는 상품 수를 카테고리별로
+    @Transactional(readOnly = true)
+    public List<ProductFacetResDto> searchFacets(String keyword) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+        String query = toFullTextQuery(keyword);
+        List<ProductRepository.CategoryFacet> facets = query != null
+                ? productRepository.searchFacets(query)
+                : productRepository.likeFacets(keyword.trim());
+        return facets.stream()
+                .map(f -> new ProductFacetResDto(f.getCategoryId(), f.getCategoryName(), f.getCount()))
+                .collect(Collectors.toList());
+    }
+
+    // 상품명 앞부분으로 자동완성
+    @Transactional(readOnly = true)
+    public List<String> suggestNames(String prefix) {
+        if (prefix == null || prefix.isBlank()) return List.of();
+        String escaped = prefix.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return productRepository.findNamesByPrefix(escaped, PageRequest.of(0, SUGGEST_LIMIT));
+    }
+
+    private Long resolveCategoryId(String searchType) {
+        if (searchType == null || searchType.isBlank() || "ALL".equals(searchType)) return null;
+        return Long.parseLong(searchType);
+    }
+
+    // 검색어 -> BOOLEAN MODE 쿼리. 모든 단어가 들어간 상품만 (+단어)
+    // 전문 검색을 쓸 수 없으면 null (인덱스 없음 / ngram 보다 짧은 단어만 있음)
+    private String toFullTextQuery(String keyword) {
+        if (!searchIndex.isAvailable()) return null;
+        StringBuilder query = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            // BOOLEAN MODE 연산자 제거
+            String cleaned = term.replaceAll("[+\\-<>()~*\"@]", "");
+            if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+                if (cleaned.isEmpty()) continue;
+                return null; // 짧은 단어가 섞이면 LIKE 로 (ngram 에 걸리지 않아 결과가 빠짐)
+            }
+            if (query.length() > 0) query.append(' ');
+            query.append('+').append(cleaned);
+        }
+        return query.length() > 0 ? query.toString() : null;
     }
 
     public void productDelete(Long id) throws Exception {
@@ -112,19 +204,21 @@ public class ProductService {
                 () -> new EntityNotFoundException("Product with id: " + id + " not found")
         );
 
+        // 삭제 아웃박스에 기록 -> 커밋 후 워커가 참조를 확인하고 지운다 (같은 내용을 다른 상품/리뷰가 쓰고 있을 수 있음)
+        List<String> imageUrls = new ArrayList<>();
         for (ProductImages image : product.getProductImages()) {
-            s3Config.deleteFromS3Bucket(image.getImgUrl());
+            imageUrls.add(image.getImgUrl());
         }
-
-
-        String thumbnailPath = product.getThumbnailPath();
-        String mainImagePath = product.getMainImagePath();
-        s3Config.deleteFromS3Bucket(thumbnailPath);
-        s3Config.deleteFromS3Bucket(mainImagePath);
+        imageUrls.add(product.getThumbnailPath());
+        imageUrls.add(product.getMainImagePath());
 
         productRepository.deleteById(id);
+        imageUploader.deleteUnreferenced(imageUrls);
+        productEventPublisher.productChanged(id);
+        productDetailCache.evict(id);
     }
 
+    @Transactional(readOnly = true)
     public ProductResDto getProductInfo(Long prodId) {
         Product product = productRepository.findById(prodId).orElseThrow(
                 () -> new EntityNotFoundException("Product with id: " + prodId + " not found")
@@ -141,25 +235,35 @@ public class ProductService {
                 () -> new EntityNotFoundException("Product with id: " + prodId + " not found")
         );
         foundProduct.setStockQuantity(stockQuantity);
+        foundProduct.increaseRevision();
         productRepository.save(foundProduct);
+        productDetailCache.evict(prodId);
     }
 
-    public List<ProductResDto> getProductsName(List<Long> productIds) {
+    // 장바구니/주문 화면에서 호출하는 일괄 조회 -> 상세 이미지 없이 카테고리만 함께 읽는다
+    @Transactional(readOnly = true)
+    public List<ProductSummaryResDto> getProductsName(List<Long> productIds) {
         List<Product> products = productRepository.findByProductIdIn(productIds);
 
         return products.stream()
-                .map(Product::fromEntity)
+                .map(ProductSummaryResDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    // 서비스 간 일괄 조회 (/product/internal/products)
+    @Transactional(readOnly = true)
+    public List<ProductBriefResDto> getProductBriefs(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return List.of();
+        return productRepository.findBriefByProductIdIn(productIds);
+    }
+
     public void cancelProduct(Map<Long, Integer> map) {
-        for (Long key : map.keySet()) {
-            Product foundProd = productRepository.findById(key).orElseThrow(
-                    () -> new EntityNotFoundException("Product with id: " + key + " not found")
-            );
-            int quantity = foundProd.getStockQuantity();
-            foundProd.setStockQuantity(quantity + map.get(key));
-            productRepository.save(foundProd);
+        // 읽고-더해서-덮어쓰기 대신 DB에서 바로 증가시켜 동시 취소/주문과 충돌하지 않게 함
+        for (Long key : new TreeMap<>(map).keySet()) {
+            int updated = productRepository.increaseStock(key, map.get(key));
+            if (updated == 0) {
+                throw new EntityNotFoundException("Product with id: " + key + " not found");
+            }
         }
     }
 
@@ -173,48 +277,47 @@ public class ProductService {
         if (dto.getPrice() != null) product.setPrice(dto.getPrice());
         if (dto.getDescription() != null) product.setDescription(dto.getDescription());
 
-        // 이미지 변경이 있는 경우만 S3 업로드
-        if (dto.getMainImage() != null && !dto.getMainImage().isEmpty()) {
-
-            s3Config.deleteFromS3Bucket(product.getMainImagePath());
-
-            MultipartFile mainImage = dto.getMainImage();
-            String uniqueMainImageName
-                    = UUID.randomUUID() + "_" + mainImage.getOriginalFilename();
-            String url =
-                    s3Config.uploadToS3Bucket(mainImage.getBytes(), uniqueMainImageName);
-            product.setMainImagePath(url);
+        // 이미지 변경이 있는 경우만 S3 업로드 (바뀐 이미지를 모두 모아서 동시에 업로드)
+        boolean mainChanged = dto.getMainImage() != null && !dto.getMainImage().isEmpty();
+        boolean thumbnailChanged = dto.getThumbnailImage() != null && !dto.getThumbnailImage().isEmpty();
+        boolean imagesChanged = dto.getImages() != null && !dto.getImages().isEmpty();
+
+        List<MultipartFile> files = new ArrayList<>();
+        if (mainChanged) files.add(dto.getMainImage());
+        if (thumbnailChanged) files.add(dto.getThumbnailImage());
+        if (imagesChanged) files.addAll(dto.getImages());
+
+        List<ProductImageUploader.StoredImage> stored = files.isEmpty() ? List.of() : imageUploader.uploadAll(files);
+        // 기존 이미지는 커밋이 끝난 뒤에 지운다 (중간에 실패해도 기존 상품 이미지가 깨지지 않도록)
+        List<String> replacedUrls = new ArrayList<>();
+        int next = 0;
+
+        if (mainChanged) {
+            replacedUrls.add(product.getMainImagePath());
+            ProductImageUploader.StoredImage main = stored.get(next++);
+            product.setMainImagePath(main.getUrl());
+            product.setMainImageVariants(main.getVariants());
         }
 
-        if (dto.getThumbnailImage() != null && !dto.getThumbnailImage().isEmpty()) {
-            s3Config.deleteFromS3Bucket(product.getThumbnailPath());
-
-            MultipartFile thumbnailImage = dto.getThumbnailImage();
-            String uniquethumbnailImageName
-                    = UUID.randomUUID() + "_" + thumbnailImage.getOriginalFilename();
-            String url =
-                    s3Config.uploadToS3Bucket(thumbnailImage.getBytes(), uniquethumbnailImageName);
-            product.setThumbnailPath(url);
+        if (thumbnailChanged) {
+            replacedUrls.add(product.getThumbnailPath());
+            ProductImageUploader.StoredImage thumbnail = stored.get(next++);
+            product.setThumbnailPath(thumbnail.thumbnailOrOriginal());
+            product.setThumbnailHash(thumbnail.getVariants().getContentHash());
         }
 
         // 상품 상세 이미지도 마찬가지로 분기
-        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-
-            List<ProductImages> exImages = product.getProductImages();
-            for (int i =0; i<exImages.size(); i++) {
-                String imgUrl = exImages.get(i).getImgUrl();
-                s3Config.deleteFromS3Bucket(imgUrl);
+        if (imagesChanged) {
+            for (ProductImages exImage : product.getProductImages()) {
+                replacedUrls.add(exImage.getImgUrl());
             }
 
             List<ProductImages> newImages = new ArrayList<>(); // 기존 삭제 후 재등록 or 추가 로직
-            for (int i = 0; i < dto.getImages().size(); i++) {
+            for (int i = 0; next < stored.size(); i++) {
                 ProductImages productImages = new ProductImages();
-                MultipartFile image = dto.getImages().get(i);
-                String uniqueImageName
-                        = UUID.randomUUID() + "_" + image.getOriginalFilename();
-                String url =
-                        s3Config.uploadToS3Bucket(image.getBytes(), uniqueImageName);
-                productImages.setImgUrl(url);
+                ProductImageUploader.StoredImage image = stored.get(next++);
+                productImages.setImgUrl(image.getUrl());
+                productImages.setVariants(image.getVariants());
                 productImages.setImgOrder(i);
                 productImages.setProduct(product);
                 newImages.add(productImages);
@@ -223,6 +326,8 @@ public class ProductService {
             product.getProductImages().addAll(newImages);
         }
 
+        imageUploader.deleteUnreferenced(replacedUrls);
+
         if(dto.getCategoryId() != null && !dto.getCategoryId().isEmpty()) {
             Long categoryId = Long.parseLong(dto.getCategoryId());
             Category category= categoryRepository.findById(categoryId).orElseThrow(
@@ -231,9 +336,12 @@ public class ProductService {
             product.setCategory(category);
         }
 
+        product.increaseRevision();
+        Product saved = productRepository.save(product);
+        productEventPublisher.productChanged(id);
+        productDetailCache.evict(id);
 
-
-        return productRepository.save(product);
+        return saved;
 
     }
 
@@ -0,0 +1,184 @@
+package com.playdata.productservice.product.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.productservice.product.dto.StockCommandResDto;
+import com.playdata.productservice.product.dto.StockReserveReqDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// ordering-service 아웃박스가 발행한 재고 명령(order:stock-commands)을 소비자 그룹으로 받아 처리하고
+// 결과를 order:stock-replies 로 돌려준다
+// - 스트림은 ordering-service 의 Redis DB(기본 1번)에 있으므로 전용 커넥션을 따로 만든다
+//   (빈으로 등록하면 이 서비스의 기본 RedisConnectionFactory 자동 설정이 빠지므로 내부에서만 사용)
+// - 처리 후 ACK 하고, 실패하거나 소비자가 죽어 남은 메시지는 주기적으로 다시 가져와 처리
+@Component
+@Slf4j
+public class StockCommandListener implements StreamListener<String, MapRecord<String, String, String>> {
+
+    public static final String COMMAND_STREAM = "order:stock-commands";
+    public static final String REPLY_STREAM = "order:stock-replies";
+    public static final String GROUP = "product-service";
+    private static final Duration RECLAIM_IDLE = Duration.ofSeconds(60);
+    private static final int RECLAIM_BATCH_SIZE = 100;
+    private static final long MAX_DELIVERIES = 10;
+
+    private final StockCommandService stockCommandService;
+    private final ObjectMapper objectMapper;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final long replyMaxLength;
+    private final String consumerName = "product-" + UUID.randomUUID();
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public StockCommandListener(StockCommandService stockCommandService,
+                                ObjectMapper objectMapper,
+                                @Value("${spring.data.redis.host}") String host,
+                                @Value("${spring.data.redis.port}") int port,
+                                @Value("${order.saga.redis-database:1}") int database,
+                                @Value("${order.saga.stream-max-length:100000}") long replyMaxLength) {
+        this.stockCommandService = stockCommandService;
+        this.objectMapper = objectMapper;
+        this.replyMaxLength = replyMaxLength;
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(database);
+        this.connectionFactory = new LettuceConnectionFactory(configuration);
+        this.connectionFactory.afterPropertiesSet();
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        createGroupIfMissing();
+
+        container = StreamMessageListenerContainer.create(connectionFactory,
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .batchSize(50)
+                        .build());
+        container.register(StreamMessageListenerContainer.StreamReadRequest
+                        .builder(StreamOffset.create(COMMAND_STREAM, ReadOffset.lastConsumed()))
+                        .consumer(Consumer.from(GROUP, consumerName))
+                        .autoAcknowledge(false)
+                        .cancelOnError(e -> false)
+                        .build(),
+                this);
+        container.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        handle(message.getId(), message.getValue());
+    }
+
+    // 오래 ACK 되지 않은 메시지를 이 소비자로 가져와 다시 처리
+    @Scheduled(fixedDelayString = "${order.saga.reclaim-interval-ms:30000}")
+    public void reclaimStale() {
+        try {
+            PendingMessages pending = redisTemplate.opsForStream()
+                    .pending(COMMAND_STREAM, GROUP, Range.unbounded(), RECLAIM_BATCH_SIZE);
+
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(RECLAIM_IDLE) < 0) {
+                    continue;
+                }
+                if (message.getTotalDeliveryCount() > MAX_DELIVERIES) {
+                    // 계속 실패하는 명령은 로그만 남기고 버림 (주문은 ordering-service 타임아웃 보상으로 정리됨)
+                    log.error("재고 명령 처리 포기. 메시지 ID: {}", message.getIdAsString());
+                    redisTemplate.opsForStream().acknowledge(COMMAND_STREAM, GROUP, message.getId());
+                    continue;
+                }
+                List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                        .claim(COMMAND_STREAM, GROUP, consumerName, RECLAIM_IDLE, message.getId());
+                for (MapRecord<String, Object, Object> record : claimed) {
+                    handle(record.getId(), record.getValue());
+                }
+            }
+        } catch (Exception e) {
+            log.error("재고 명령 재처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void handle(RecordId id, Map<?, ?> fields) {
+        try {
+            Long orderId = Long.valueOf(String.valueOf(fields.get("orderId")));
+            String type = String.valueOf(fields.get("type"));
+            List<StockReserveReqDto> items = objectMapper.readValue(
+                    String.valueOf(fields.get("items")), new TypeReference<List<StockReserveReqDto>>() {});
+
+            StockCommandResDto result;
+            if ("RELEASE".equals(type)) {
+                result = stockCommandService.release(orderId, items);
+            } else {
+                result = stockCommandService.reserve(orderId, items);
+                if (!result.isSuccess()) {
+                    stockCommandService.recordRejected(result);
+                }
+            }
+
+            reply(result);
+            redisTemplate.opsForStream().acknowledge(COMMAND_STREAM, GROUP, id);
+        } catch (Exception e) {
+            // ACK 하지 않으면 pending 으로 남아 reclaimStale 에서 다시 처리됨 (처리 기록이 있으면 결과만 다시 응답)
+            log.error("재고 명령 처리 실패. 메시지 ID: {}, 원인: {}", id, e.getMessage());
+        }
+    }
+
+    private void reply(StockCommandResDto result) {
+        Map<String, String> fields = Map.of(
+                "orderId", String.valueOf(result.getOrderId()),
+                "type", result.getType(),
+                "success", String.valueOf(result.isSuccess()),
+                "reason", result.getReason() == null ? "" : result.getReason(),
+                "failedProductIds", result.getFailedProductIds() == null ? "" : result.getFailedProductIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","))
+        );
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(REPLY_STREAM));
+        redisTemplate.opsForStream().trim(REPLY_STREAM, replyMaxLength, true);
+    }
+
+    // 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+    private void createGroupIfMissing() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(COMMAND_STREAM.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+}
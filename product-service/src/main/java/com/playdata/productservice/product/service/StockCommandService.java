@@ -0,0 +1,140 @@
+package com.playdata.productservice.product.service;
+
+import com.playdata.productservice.product.dto.StockCommandResDto;
+import com.playdata.productservice.product.dto.StockReserveReqDto;
+import com.playdata.productservice.product.entity.StockCommandLog;
+import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.product.repository.StockCommandLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 주문 사가 재고 명령 처리
+// 재고 변경과 처리 기록을 한 트랜잭션으로 저장해서, 같은 명령이 다시 와도 기록된 결과만 돌려준다
+// 같은 주문의 예약/해제는 주문별 잠금 행으로 직렬화해서, 해제가 예약 도중에 끼어들어 NOT_RESERVED 로 남지 않게 한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StockCommandService {
+
+    private final ProductRepository productRepository;
+    private final StockCommandLogRepository stockCommandLogRepository;
+    private final StockOrderLocks stockOrderLocks;
+
+    // 재고 예약: 전부 차감되거나 전부 롤백
+    public StockCommandResDto reserve(Long orderId, List<StockReserveReqDto> items) {
+        stockOrderLocks.lock(orderId);
+        Optional<StockCommandLog> done = stockCommandLogRepository
+                .findByOrderIdAndCommandType(orderId, StockCommandLog.CommandType.RESERVE);
+        if (done.isPresent()) {
+            return StockCommandResDto.from(done.get());
+        }
+
+        // 해제가 먼저 도착했으면 (주문이 이미 타임아웃/취소됨) 해제 기록이 묘비 역할을 해서 예약하지 않는다
+        if (stockCommandLogRepository
+                .findByOrderIdAndCommandType(orderId, StockCommandLog.CommandType.RELEASE).isPresent()) {
+            return rejected(orderId, "ORDER_RELEASED", List.of());
+        }
+
+        Map<Long, Integer> quantities = merge(items);
+        List<Long> failed = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (productRepository.decreaseStock(entry.getKey(), entry.getValue()) != 1) {
+                failed.add(entry.getKey());
+            }
+        }
+
+        if (failed.isEmpty()) {
+            stockCommandLogRepository.save(StockCommandLog.builder()
+                    .orderId(orderId)
+                    .commandType(StockCommandLog.CommandType.RESERVE)
+                    .success(true)
+                    .build());
+            return StockCommandResDto.builder()
+                    .orderId(orderId)
+                    .type(StockCommandLog.CommandType.RESERVE.name())
+                    .success(true)
+                    .failedProductIds(List.of())
+                    .build();
+        }
+
+        // 차감한 재고는 롤백하고, 실패 기록은 recordRejected 에서 별도 트랜잭션으로 남긴다
+        log.info("재고 예약 거절, 전체 롤백. 주문 ID: {}, 상품ID: {}", orderId, failed);
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        boolean allExist = productRepository.findAllById(failed).size() == failed.size();
+        return rejected(orderId, allExist ? "OUT_OF_STOCK" : "NOT_FOUND", failed);
+    }
+
+    // 거절된 예약 기록 (재전달되어도 같은 결과를 돌려주기 위함)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRejected(StockCommandResDto result) {
+        if (stockCommandLogRepository.findByOrderIdAndCommandType(
+                result.getOrderId(), StockCommandLog.CommandType.RESERVE).isPresent()) {
+            return;
+        }
+        stockCommandLogRepository.save(StockCommandLog.builder()
+                .orderId(result.getOrderId())
+                .commandType(StockCommandLog.CommandType.RESERVE)
+                .success(false)
+                .reason(result.getReason())
+                .failedProductIds(result.getFailedProductIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .build());
+    }
+
+    // 재고 해제(보상): 성공한 예약이 있을 때만 한 번 되돌린다
+    public StockCommandResDto release(Long orderId, List<StockReserveReqDto> items) {
+        stockOrderLocks.lock(orderId);
+        Optional<StockCommandLog> done = stockCommandLogRepository
+                .findByOrderIdAndCommandType(orderId, StockCommandLog.CommandType.RELEASE);
+        if (done.isPresent()) {
+            return StockCommandResDto.from(done.get());
+        }
+
+        boolean reserved = stockCommandLogRepository
+                .findByOrderIdAndCommandType(orderId, StockCommandLog.CommandType.RESERVE)
+                .map(StockCommandLog::isSuccess)
+                .orElse(false);
+        if (reserved) {
+            merge(items).forEach(productRepository::increaseStock);
+        }
+
+        StockCommandLog saved = stockCommandLogRepository.save(StockCommandLog.builder()
+                .orderId(orderId)
+                .commandType(StockCommandLog.CommandType.RELEASE)
+                .success(true)
+                .reason(reserved ? "RELEASED" : "NOT_RESERVED")
+                .build());
+        return StockCommandResDto.from(saved);
+    }
+
+    // 같은 상품은 합산하고, 상품 ID 순서로 UPDATE 해서 행 잠금 순서를 고정 (교착 방지)
+    private Map<Long, Integer> merge(List<StockReserveReqDto> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReserveReqDto item : items) {
+            if (item.getProductId() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("잘못된 재고 명령입니다: " + item);
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private StockCommandResDto rejected(Long orderId, String reason, List<Long> failedProductIds) {
+        return StockCommandResDto.builder()
+                .orderId(orderId)
+                .type(StockCommandLog.CommandType.RESERVE.name())
+                .success(false)
+                .reason(reason)
+                .failedProductIds(failedProductIds)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.playdata.productservice.product.service;
+
+import com.playdata.productservice.product.entity.StockOrderLock;
+import com.playdata.productservice.product.repository.StockOrderLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+// 같은 주문의 재고 예약/해제가 동시에 처리되지 않도록 주문별 잠금 행을 잡는다
+@Component
+@Slf4j
+public class StockOrderLocks {
+
+    private final StockOrderLockRepository stockOrderLockRepository;
+    private final TransactionTemplate requiresNew;
+    private final long retentionDays;
+
+    public StockOrderLocks(StockOrderLockRepository stockOrderLockRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${order.saga.outbox-retention-days:7}") long retentionDays) {
+        this.stockOrderLockRepository = stockOrderLockRepository;
+        this.retentionDays = retentionDays;
+        this.requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 호출한 트랜잭션이 끝날 때까지 잠금 유지. 트랜잭션의 첫 조회로 호출해야 한다
+    // (MySQL REPEATABLE READ 는 첫 일반 조회 시점의 스냅샷을 쓰므로, 잠금을 얻은 뒤에 읽어야 앞선 명령의 기록이 보인다)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Long orderId) {
+        // 행 생성은 별도 트랜잭션으로: 없는 행을 FOR UPDATE 로 읽으면 갭 락이 걸려 생성이 막힌다
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (!stockOrderLockRepository.existsById(orderId)) {
+                    stockOrderLockRepository.saveAndFlush(StockOrderLock.builder().orderId(orderId).build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 명령이 동시에 먼저 만들었음
+        }
+        stockOrderLockRepository.findForUpdate(orderId)
+                .orElseThrow(() -> new IllegalStateException("주문 잠금 행 생성 실패. 주문 ID: " + orderId));
+    }
+
+    // 주문 이벤트 보관 기간(ordering-service 아웃박스와 같은 값)이 지난 잠금 행 정리
+    // 그 뒤에 명령이 다시 와도 잠금 행은 새로 만들어지고, 결과는 처리 기록으로 판단한다
+    @Scheduled(fixedDelayString = "${order.saga.outbox-cleanup-interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        int deleted = stockOrderLockRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("오래된 주문 잠금 행 {}건 정리", deleted);
+        }
+    }
+}
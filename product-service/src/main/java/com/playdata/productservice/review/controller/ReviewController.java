@@ -46,6 +46,22 @@ public class ReviewController {
 
         return new ResponseEntity<>(resDto, HttpStatus.OK);
     }
+    // 커서 기반 목록 (무한 스크롤). cursor 파라미터가 있으면 이쪽으로 (첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "/list/{prodId}", params = "cursor")
+    public ResponseEntity<?> reviewPage(@PathVariable Long prodId,
+                                        @RequestParam(value = "cursor", required = false) Long cursor,
+                                        @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        ReviewPageResDto page = reviewService.findPageByProdId(prodId, cursor, size);
+
+        CommonResDto resDto = new CommonResDto(
+                HttpStatus.OK,
+                "정상 목록 호출 완료",
+                page
+        );
+
+        return new ResponseEntity<>(resDto, HttpStatus.OK);
+    }
     @GetMapping("/detail/{reviewId}")
     public ResponseEntity<?> reviewList(@PathVariable Long reviewId) {
 
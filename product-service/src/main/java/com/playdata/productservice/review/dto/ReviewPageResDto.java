@@ -0,0 +1,16 @@
+package com.playdata.productservice.review.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 커서 기반 리뷰 목록 응답 (다음 페이지는 cursor=nextCursor 로 요청)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewPageResDto {
+    private List<ReviewResDto> reviews;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package com.playdata.productservice.review.dto;
 
+import com.playdata.productservice.common.entity.ImageVariants;
 import com.playdata.productservice.product.dto.ProductResDto;
 import com.playdata.productservice.product.entity.Product;
 import com.playdata.productservice.review.entity.Review;
@@ -16,6 +17,7 @@ public class ReviewResDto {
     private Long productId;
     private String content;
     private String mediaUrl;
+    private ImageVariants mediaVariants; // 리사이즈 파생본
     private String name;
     private String email;
 
@@ -25,6 +27,7 @@ public class ReviewResDto {
                 .productId(review.getProductId())
                 .content(review.getContent())
                 .mediaUrl(review.getMediaUrl())
+                .mediaVariants(review.getMediaVariants())
                 .name(review.getUserName())
                 .email(review.getUserEmail())
                 .build();
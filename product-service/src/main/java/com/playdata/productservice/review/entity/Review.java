@@ -1,6 +1,7 @@
 package com.playdata.productservice.review.entity;
 
 import com.playdata.productservice.common.entity.BaseTimeEntity;
+import com.playdata.productservice.common.entity.ImageVariants;
 import com.playdata.productservice.product.entity.Product;
 import com.playdata.productservice.review.dto.ReviewResDto;
 import jakarta.persistence.*;
@@ -16,7 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tbl_review")
+@Table(name = "tbl_review", indexes = {
+        @Index(name = "idx_review_media_hash", columnList = "content_hash"),
+        @Index(name = "idx_review_product", columnList = "product_id, reviewId")
+})
 public class Review extends BaseTimeEntity {
 
     @Id
@@ -38,6 +42,10 @@ public class Review extends BaseTimeEntity {
     @Column(length = 1000, nullable = false)
     private String mediaUrl;
 
+    // 첨부 이미지 파생본 (이미지가 아니면 해시만)
+    @Embedded
+    private ImageVariants mediaVariants;
+
     public static ReviewResDto fromEntity(Review review) {
         return ReviewResDto.builder()
                 .reviewId(review.getReviewId())
@@ -46,6 +54,7 @@ public class Review extends BaseTimeEntity {
                 .name(review.getUserName())
                 .email(review.getUserEmail())
                 .mediaUrl(review.getMediaUrl())
+                .mediaVariants(review.getMediaVariants())
                 .build();
     }
 }
@@ -1,12 +1,24 @@
 package com.playdata.productservice.review.repository;
 
 import com.playdata.productservice.review.entity.Review;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    Page<Review> findAllByProductId(Long prodId, Pageable pageable);
+    // 목록 화면은 전체 건수를 쓰지 않으므로 Slice 로 받아 count 쿼리를 생략한다
+    Slice<Review> findAllByProductId(Long prodId, Pageable pageable);
+
+    // 커서 기반 목록 (무한 스크롤): cursor 보다 작은 리뷰 ID 를 최신순으로
+    @Query("SELECT r FROM Review r WHERE r.productId = :prodId " +
+            "AND (:cursor IS NULL OR r.reviewId < :cursor) ORDER BY r.reviewId DESC")
+    Slice<Review> findPageAfter(@Param("prodId") Long prodId,
+                                @Param("cursor") Long cursor,
+                                Pageable pageable);
+
+    boolean existsByMediaVariantsContentHash(String contentHash);
 }
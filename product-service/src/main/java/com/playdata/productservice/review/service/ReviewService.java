@@ -1,22 +1,24 @@
 package com.playdata.productservice.review.service;
 
-import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.common.entity.ImageVariants;
+import com.playdata.productservice.product.service.ProductImageUploader;
+import com.playdata.productservice.review.dto.ReviewPageResDto;
 import com.playdata.productservice.review.dto.ReviewResDto;
 import com.playdata.productservice.review.dto.ReviewSaveReqDto;
 import com.playdata.productservice.review.dto.ReviewUpdateDto;
 import com.playdata.productservice.review.entity.Review;
 import com.playdata.productservice.review.repository.ReviewRepository;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,11 +26,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
-    private final AwsS3Config s3Config;
+    private final ProductImageUploader imageUploader;
 
+    // 커서 기반 목록 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Transactional(readOnly = true)
     public List<ReviewResDto> findByProdId(Long prodId, Pageable pageable) {
 
-        Page<Review> allByProductId = reviewRepository.findAllByProductId(prodId, pageable);
+        Slice<Review> allByProductId = reviewRepository.findAllByProductId(prodId, pageable);
 
         List<Review> reviewList = allByProductId .getContent();
 
@@ -42,19 +48,36 @@ public class ReviewService {
 
 
         String mainImageUrl = "";
+        ImageVariants variants = null;
         if(dto.getImage() != null) {
             MultipartFile reviewImage = dto.getImage();
 
-            String uniqueReviewImageImageName
-                    = UUID.randomUUID() + "_" + reviewImage.getOriginalFilename();
-            mainImageUrl = s3Config.uploadToS3Bucket(reviewImage.getBytes(), uniqueReviewImageImageName);
+            ProductImageUploader.StoredImage stored = imageUploader.uploadAll(List.of(reviewImage)).get(0);
+            mainImageUrl = stored.getUrl();
+            variants = stored.getVariants();
 
         }
         Review review = dto.toEntity(email, name, mainImageUrl);
+        review.setMediaVariants(variants);
 
         return reviewRepository.save(review);
     }
 
+    // 커서 기반 목록 (무한 스크롤). cursor 가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public ReviewPageResDto findPageByProdId(Long prodId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Slice<Review> slice = reviewRepository.findPageAfter(prodId, cursor, PageRequest.of(0, pageSize));
+
+        List<Review> reviewList = slice.getContent();
+        List<ReviewResDto> reviews = reviewList.stream()
+                .map(ReviewResDto::fromEntity)
+                .collect(Collectors.toList());
+        Long nextCursor = slice.hasNext() ? reviewList.get(reviewList.size() - 1).getReviewId() : null;
+        return new ReviewPageResDto(reviews, nextCursor, slice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
     public ReviewResDto findById(Long reviewId) {
         Review review = reviewRepository.findById(reviewId).orElseThrow(
                 () -> new IllegalArgumentException("Review not found")
@@ -64,8 +87,8 @@ public class ReviewService {
     }
 
     public void deleteById(Long reviewId, String imgUrl) throws Exception {
-        s3Config.deleteFromS3Bucket(imgUrl);
         reviewRepository.deleteById(reviewId);
+        imageUploader.deleteUnreferenced(List.of(imgUrl));
     }
     public void deleteById(Long reviewId) throws Exception {
         reviewRepository.deleteById(reviewId);
@@ -82,14 +105,13 @@ public class ReviewService {
 
         // 이미지가 있을 경우 기존 삭제 + 새 이미지 등록
         if (dto.getImage() != null && !dto.getImage().isEmpty()) {
-            if(review.getMediaUrl() != null && !review.getMediaUrl().trim().isEmpty()) {
-                s3Config.deleteFromS3Bucket(review.getMediaUrl()); // 기존 이미지 삭제
+            String oldImageUrl = review.getMediaUrl();
+            ProductImageUploader.StoredImage stored = imageUploader.uploadAll(List.of(dto.getImage())).get(0);
+            review.setMediaUrl(stored.getUrl());
+            review.setMediaVariants(stored.getVariants());
+            if(oldImageUrl != null && !oldImageUrl.trim().isEmpty()) {
+                imageUploader.deleteUnreferenced(List.of(oldImageUrl)); // 기존 이미지는 삭제 아웃박스로 (커밋 후 워커가 삭제)
             }
-            String newImageUrl = s3Config.uploadToS3Bucket(
-                    dto.getImage().getBytes(),
-                    UUID.randomUUID() + "_" + dto.getImage().getOriginalFilename()
-            );
-            review.setMediaUrl(newImageUrl);
         }
 
         reviewRepository.save(review); // 저장
@@ -0,0 +1,30 @@
+package com.playdata.productservice.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 내용 해시 이미지 업로드 임대
+// 업로드 요청이 S3 객체 존재 확인 전에 커밋하고, 상품/리뷰 트랜잭션이 끝나면 지운다.
+// 살아 있는 임대가 있는 해시는 S3DeletionWorker 가 삭제를 미룬다.
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_image_upload_lease", indexes = {
+        @Index(name = "idx_image_upload_lease_hash", columnList = "content_hash, expires_at")
+})
+public class ImageUploadLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
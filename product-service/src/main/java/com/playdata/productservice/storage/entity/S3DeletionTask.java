@@ -0,0 +1,55 @@
+package com.playdata.productservice.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// S3 객체 삭제 아웃박스
+// 상품/리뷰/카테고리 변경과 같은 트랜잭션에서 저장되고, S3DeletionWorker 가 모아서 일괄 삭제한다.
+// 삭제에 성공하면 행도 지운다.
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_s3_deletion_task", indexes = {
+        @Index(name = "idx_s3_deletion_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_s3_deletion_hash", columnList = "content_hash")
+})
+public class S3DeletionTask {
+
+    public enum Status {
+        PENDING,
+        IN_PROGRESS, // 워커가 가져가서 S3 삭제 중. next_attempt_at 이 임대 만료 시각 (지나면 다른 워커가 다시 가져감)
+        FAILED // FAILED: 최대 재시도 초과 (수동 확인 대상)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1000)
+    private String objectKey;
+
+    // 내용 해시 키(images/{sha256}/...)면 그 해시. 업로드 요청이 같은 해시의 삭제 작업을 찾을 때 사용
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
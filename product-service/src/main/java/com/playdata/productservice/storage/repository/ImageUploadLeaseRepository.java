@@ -0,0 +1,19 @@
+package com.playdata.productservice.storage.repository;
+
+import com.playdata.productservice.storage.entity.ImageUploadLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ImageUploadLeaseRepository extends JpaRepository<ImageUploadLease, Long> {
+
+    boolean existsByContentHashAndExpiresAtAfter(String contentHash, LocalDateTime now);
+
+    // 트랜잭션이 끝났는데도 해제되지 못한 임대 정리 (프로세스 종료 등)
+    @Modifying
+    @Query("DELETE FROM ImageUploadLease l WHERE l.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
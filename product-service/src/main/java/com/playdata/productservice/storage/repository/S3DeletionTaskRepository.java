@@ -0,0 +1,32 @@
+package com.playdata.productservice.storage.repository;
+
+import com.playdata.productservice.storage.entity.S3DeletionTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    // 처리할 차례가 된 작업 (대기 중이거나, 가져간 워커의 임대가 만료된 작업)
+    // 여러 인스턴스가 같은 행을 잡지 않도록 SKIP LOCKED (lock timeout -2)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM S3DeletionTask t " +
+            "WHERE t.status IN (com.playdata.productservice.storage.entity.S3DeletionTask.Status.PENDING, " +
+            "com.playdata.productservice.storage.entity.S3DeletionTask.Status.IN_PROGRESS) " +
+            "AND t.nextAttemptAt <= :now ORDER BY t.id")
+    List<S3DeletionTask> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 같은 해시의 삭제 작업 (워커가 가져가는 중이면 커밋될 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM S3DeletionTask t WHERE t.contentHash = :hash")
+    List<S3DeletionTask> findByContentHashForUpdate(@Param("hash") String hash);
+}
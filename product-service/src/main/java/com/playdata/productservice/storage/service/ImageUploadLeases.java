@@ -0,0 +1,90 @@
+package com.playdata.productservice.storage.service;
+
+import com.playdata.productservice.storage.entity.ImageUploadLease;
+import com.playdata.productservice.storage.entity.S3DeletionTask;
+import com.playdata.productservice.storage.repository.ImageUploadLeaseRepository;
+import com.playdata.productservice.storage.repository.S3DeletionTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 내용 해시 이미지 재사용(중복 업로드 생략)과 S3DeletionWorker 의 삭제가 겹치지 않게 하는 임대
+// - 업로드 요청은 S3 객체 존재 확인 전에 임대를 별도 트랜잭션으로 커밋한다
+// - 워커는 임대가 살아 있는 해시의 삭제를 미루고, 이미 가져가서 삭제 중이면 업로드 쪽이 끝날 때까지 기다린다
+// - 둘 다 같은 해시의 삭제 작업 행을 잠근 상태에서 판단하므로 한쪽만 진행된다
+@Component
+@Slf4j
+public class ImageUploadLeases {
+
+    private static final int MAX_WAIT_ATTEMPTS = 20;
+    private static final long WAIT_MILLIS = 500;
+
+    private final ImageUploadLeaseRepository leaseRepository;
+    private final S3DeletionTaskRepository taskRepository;
+    private final TransactionTemplate requiresNew;
+    private final long leaseSeconds;
+
+    public ImageUploadLeases(ImageUploadLeaseRepository leaseRepository,
+                             S3DeletionTaskRepository taskRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${s3.upload-lease-seconds:600}") long leaseSeconds) {
+        this.leaseRepository = leaseRepository;
+        this.taskRepository = taskRepository;
+        this.requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    // 임대 ID 반환. 같은 해시 삭제가 진행 중이면 끝날 때까지 잠시 기다린다
+    public Long acquire(String hash) {
+        for (int attempt = 0; attempt < MAX_WAIT_ATTEMPTS; attempt++) {
+            Long leaseId = requiresNew.execute(status -> tryAcquire(hash));
+            if (leaseId != null) return leaseId;
+            try {
+                Thread.sleep(WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("같은 이미지의 삭제가 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    public boolean isActive(String hash, LocalDateTime now) {
+        return leaseRepository.existsByContentHashAndExpiresAtAfter(hash, now);
+    }
+
+    // 상품/리뷰 트랜잭션이 끝난 뒤 호출 (실패해도 만료되면 무시됨)
+    public void release(Collection<Long> leaseIds) {
+        if (leaseIds.isEmpty()) return;
+        try {
+            requiresNew.executeWithoutResult(status -> leaseRepository.deleteAllByIdInBatch(leaseIds));
+        } catch (Exception e) {
+            log.warn("이미지 업로드 임대 해제 실패 ids={}: {}", leaseIds, e.getMessage());
+        }
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        Integer deleted = requiresNew.execute(status -> leaseRepository.deleteExpired(now));
+        return deleted == null ? 0 : deleted;
+    }
+
+    private Long tryAcquire(String hash) {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = taskRepository.findByContentHashForUpdate(hash);
+        boolean deleting = tasks.stream().anyMatch(task ->
+                task.getStatus() == S3DeletionTask.Status.IN_PROGRESS && task.getNextAttemptAt().isAfter(now));
+        if (deleting) return null;
+
+        return leaseRepository.save(ImageUploadLease.builder()
+                .contentHash(hash)
+                .expiresAt(now.plusSeconds(leaseSeconds))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,66 @@
+package com.playdata.productservice.storage.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.service.ImageReferenceChecker;
+import com.playdata.productservice.storage.entity.S3DeletionTask;
+import com.playdata.productservice.storage.repository.S3DeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// S3 삭제 요청을 아웃박스 테이블에 기록 (실제 삭제는 S3DeletionWorker 가 비동기로)
+// API 응답 시간이 S3 에 묶이지 않고, S3 실패가 DB 변경을 롤백시키지 않는다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class S3DeletionQueue {
+
+    private final S3DeletionTaskRepository taskRepository;
+    private final AwsS3Config s3Config;
+    private final ImageReferenceChecker referenceChecker;
+
+    // 호출한 쪽 트랜잭션에 참여 (DB 변경이 롤백되면 삭제 요청도 함께 사라진다)
+    @Transactional
+    public void enqueueUrls(Collection<String> urls) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String url : urls) {
+            if (url == null || url.isBlank()) continue;
+            try {
+                keys.add(s3Config.keyOf(url));
+            } catch (Exception e) {
+                log.warn("S3 URL 해석 실패, 삭제 요청 무시 url={}: {}", url, e.getMessage());
+            }
+        }
+        enqueueKeys(keys);
+    }
+
+    @Transactional
+    public void enqueueKeys(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = keys.stream()
+                .distinct()
+                .map(key -> S3DeletionTask.builder()
+                        .objectKey(key)
+                        .contentHash(referenceChecker.hashOf(key))
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build())
+                .toList();
+        taskRepository.saveAll(tasks);
+    }
+
+    // 롤백 보상처럼 바깥 트랜잭션과 상관없이 반드시 남겨야 하는 삭제 요청
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueUrlsNow(Collection<String> urls) {
+        enqueueUrls(urls);
+    }
+}
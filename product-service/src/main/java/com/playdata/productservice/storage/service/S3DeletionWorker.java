@@ -0,0 +1,171 @@
+package com.playdata.productservice.storage.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.service.ImageReferenceChecker;
+import com.playdata.productservice.storage.entity.S3DeletionTask;
+import com.playdata.productservice.storage.repository.S3DeletionTaskRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// S3 삭제 아웃박스를 주기적으로 비우는 백그라운드 작업
+// - 한 번에 최대 1000개 키를 DeleteObjects 한 번으로 삭제
+// - 실패한 키는 지수 백오프로 다시 시도하고, 최대 횟수를 넘으면 FAILED 로 남긴다
+// - 내용 해시 키는 삭제 직전에 다시 참조를 확인 (그 사이 같은 파일이 다시 등록됐을 수 있음)
+// - 작업은 IN_PROGRESS 로 표시해 커밋한 뒤 트랜잭션 밖에서 S3 를 호출 (워커가 죽으면 임대 만료 후 다시 처리)
+@Component
+@Slf4j
+public class S3DeletionWorker {
+
+    // S3 DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int BATCH_SIZE = 1000;
+
+    private final S3DeletionTaskRepository taskRepository;
+    private final AwsS3Config s3Config;
+    private final ImageReferenceChecker referenceChecker;
+    private final ImageUploadLeases uploadLeases;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long claimSeconds;
+
+    public S3DeletionWorker(S3DeletionTaskRepository taskRepository,
+                            AwsS3Config s3Config,
+                            ImageReferenceChecker referenceChecker,
+                            ImageUploadLeases uploadLeases,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${s3.deletion.max-attempts:8}") int maxAttempts,
+                            @Value("${s3.deletion.base-backoff-seconds:30}") long baseBackoffSeconds,
+                            @Value("${s3.deletion.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                            @Value("${s3.deletion.claim-seconds:300}") long claimSeconds) {
+        this.taskRepository = taskRepository;
+        this.s3Config = s3Config;
+        this.referenceChecker = referenceChecker;
+        this.uploadLeases = uploadLeases;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.claimSeconds = claimSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.poll-interval-ms:5000}")
+    public void drain() {
+        uploadLeases.deleteExpired(LocalDateTime.now());
+        // 가득 찬 배치가 나오는 동안 계속 비운다
+        int processed;
+        do {
+            processed = drainBatch();
+        } while (processed == BATCH_SIZE);
+    }
+
+    // 1. 짧은 트랜잭션으로 작업을 가져가고(IN_PROGRESS + 임대) 커밋
+    // 2. S3 호출은 트랜잭션 밖에서 (느린 S3 호출이 DB 커넥션과 행 잠금을 붙잡지 않도록)
+    // 3. 결과를 다시 짧은 트랜잭션으로 반영
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Claim claim = transactionTemplate.execute(status -> claim(now));
+        if (claim == null || claim.getFetched() == 0) return 0;
+
+        Map<String, List<Long>> byKey = new LinkedHashMap<>();
+        for (S3DeletionTask task : claim.getTasks()) {
+            byKey.computeIfAbsent(task.getObjectKey(), k -> new ArrayList<>()).add(task.getId());
+        }
+        if (byKey.isEmpty()) return claim.getFetched();
+
+        Map<String, String> errors;
+        try {
+            errors = s3Config.deleteObjects(new ArrayList<>(byKey.keySet()));
+        } catch (Exception e) {
+            log.warn("S3 일괄 삭제 호출 실패 ({}개): {}", byKey.size(), e.getMessage());
+            errors = new HashMap<>();
+            for (String key : byKey.keySet()) errors.put(key, e.getMessage());
+        }
+
+        Map<String, String> failures = errors;
+        transactionTemplate.executeWithoutResult(status -> complete(byKey, failures, LocalDateTime.now()));
+
+        if (!errors.isEmpty()) {
+            log.warn("S3 삭제 실패 {}개, 재시도 예정", errors.size());
+        }
+        return claim.getFetched();
+    }
+
+    // 삭제할 작업만 IN_PROGRESS 로 바꿔서 돌려준다
+    // - 아직 참조 중인 해시 키는 삭제하지 않고 작업만 정리
+    // - 업로드 임대가 살아 있는 해시 키는 미룬다 (업로드 요청이 커밋되면 참조 중으로, 롤백되면 삭제 대상으로)
+    private Claim claim(LocalDateTime now) {
+        List<S3DeletionTask> tasks = taskRepository.findDueForUpdate(now, PageRequest.of(0, BATCH_SIZE));
+
+        Map<String, Boolean> referenced = new HashMap<>();
+        Map<String, Boolean> leased = new HashMap<>();
+        List<S3DeletionTask> skipped = new ArrayList<>();
+        List<S3DeletionTask> claimed = new ArrayList<>();
+        LocalDateTime leaseUntil = now.plusSeconds(claimSeconds);
+        for (S3DeletionTask task : tasks) {
+            String hash = referenceChecker.hashOf(task.getObjectKey());
+            if (hash != null && referenced.computeIfAbsent(hash, referenceChecker::isReferenced)) {
+                skipped.add(task);
+            } else if (hash != null && leased.computeIfAbsent(hash, h -> uploadLeases.isActive(h, now))) {
+                task.setNextAttemptAt(now.plusSeconds(baseBackoffSeconds));
+            } else {
+                // 해시 컬럼 도입 전 작업도 업로드 요청이 찾을 수 있도록 채운다
+                task.setContentHash(hash);
+                task.setStatus(S3DeletionTask.Status.IN_PROGRESS);
+                task.setNextAttemptAt(leaseUntil);
+                claimed.add(task);
+            }
+        }
+        taskRepository.deleteAllInBatch(skipped);
+        return new Claim(tasks.size(), claimed);
+    }
+
+    // 성공한 키의 작업은 지우고, 실패한 키는 재시도 예약 (그 사이 취소되어 없어진 작업은 무시)
+    private void complete(Map<String, List<Long>> byKey, Map<String, String> errors, LocalDateTime now) {
+        List<Long> done = new ArrayList<>();
+        Map<Long, String> retry = new HashMap<>();
+        byKey.forEach((key, ids) -> {
+            String error = errors.get(key);
+            if (error == null) {
+                done.addAll(ids);
+            } else {
+                ids.forEach(id -> retry.put(id, error));
+            }
+        });
+        taskRepository.deleteAllByIdInBatch(done);
+        for (S3DeletionTask task : taskRepository.findAllById(retry.keySet())) {
+            scheduleRetry(task, retry.get(task.getId()), now);
+        }
+    }
+
+    private void scheduleRetry(S3DeletionTask task, String error, LocalDateTime now) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        if (attempts >= maxAttempts) {
+            task.setStatus(S3DeletionTask.Status.FAILED);
+            log.error("S3 삭제 최대 재시도 초과 key={}: {}", task.getObjectKey(), error);
+            return;
+        }
+        task.setStatus(S3DeletionTask.Status.PENDING);
+        // 30초, 60초, 120초 ... 최대 1시간
+        long backoff = Math.min(maxBackoffSeconds, baseBackoffSeconds << Math.min(attempts - 1, 20));
+        task.setNextAttemptAt(now.plusSeconds(backoff));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Claim {
+        private final int fetched; // 가져온 작업 수 (배치가 가득 찼는지 판단용, 건너뛴 작업 포함)
+        private final List<S3DeletionTask> tasks; // 이번에 삭제할 작업
+    }
+}
@@ -0,0 +1,5 @@
+-- 상품명 전문 검색 인덱스 (MySQL FULLTEXT + ngram 파서)
+-- 배포 전에 한 번 실행한다. ProductSearchIndex 는 인덱스가 있는지만 확인하고, 없으면 LIKE 검색으로 동작하다가
+-- 인덱스가 생기면 (product.search.index-check-interval-ms 주기로 확인) 전문 검색으로 전환한다.
+-- FULLTEXT 인덱스 추가는 온라인 DDL 이어도 쓰기를 막으므로(LOCK=SHARED) 트래픽이 적은 시간에 실행한다.
+ALTER TABLE tbl_product ADD FULLTEXT INDEX ft_product_name (name) WITH PARSER ngram;
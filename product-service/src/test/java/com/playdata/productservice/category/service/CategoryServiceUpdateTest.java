@@ -0,0 +1,73 @@
+package com.playdata.productservice.category.service;
+
+import com.playdata.productservice.category.dto.CategoryUpdateDto;
+import com.playdata.productservice.category.entity.Category;
+import com.playdata.productservice.category.repository.CategoryRepository;
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.service.ProductEventPublisher;
+import com.playdata.productservice.storage.service.S3DeletionQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 서비스 트랜잭션이 커밋된 뒤 다시 읽어서 수정 내용이 남아 있는지 확인 (테스트 트랜잭션 없이 실행)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false"
+})
+@Import(CategoryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryServiceUpdateTest {
+
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @MockBean
+    private AwsS3Config s3Config;
+    @MockBean
+    private ProductEventPublisher productEventPublisher;
+    @MockBean
+    private S3DeletionQueue deletionQueue;
+    @MockBean
+    private CategorySnapshotCache categorySnapshotCache;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void updatedNameAndImageSurviveRevisionBump() {
+        Category category = categoryRepository.save(Category.builder()
+                .categoryName("이전 이름")
+                .categoryBgImgUrl("https://test/old.jpg")
+                .build());
+        given(s3Config.uploadToS3Bucket(any(byte[].class), anyString())).willReturn("https://test/new.jpg");
+
+        ResponseEntity<?> response = categoryService.updateProductCategory(CategoryUpdateDto.builder()
+                .categoryId(category.getCategoryId())
+                .categoryName("새 이름")
+                .categoryBgImg(new MockMultipartFile("categoryBgImg", "new.jpg", "image/jpeg", new byte[]{1, 2, 3}))
+                .build());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Category reloaded = categoryRepository.findById(category.getCategoryId()).orElseThrow();
+        assertThat(reloaded.getCategoryName()).isEqualTo("새 이름");
+        assertThat(reloaded.getCategoryBgImgUrl()).isEqualTo("https://test/new.jpg");
+    }
+}
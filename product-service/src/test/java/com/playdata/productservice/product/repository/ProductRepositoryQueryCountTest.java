@@ -0,0 +1,155 @@
+package com.playdata.productservice.product.repository;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.playdata.productservice.category.entity.Category;
+import com.playdata.productservice.product.dto.ProductResDto;
+import com.playdata.productservice.product.dto.ProductSummaryResDto;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.entity.ProductImages;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 상품 목록/일괄 조회가 상품 수와 상관없이 고정된 횟수의 쿼리로 끝나는지 p6spy 이벤트로 확인
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false"
+})
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class)
+class ProductRepositoryQueryCountTest {
+
+    private static final int CATEGORY_COUNT = 4;
+    private static final int PRODUCTS_PER_CATEGORY = 10;
+    private static final int IMAGES_PER_PRODUCT = 3;
+
+    @TestConfiguration
+    static class QueryCounterConfig {
+        // p6spy 스타터는 컨텍스트에 등록된 JdbcEventListener 빈을 자동으로 연결한다
+        @Bean
+        QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    static class QueryCounter extends SimpleJdbcEventListener {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            count.incrementAndGet();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+
+        int get() {
+            return count.get();
+        }
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private Long firstCategoryId;
+
+    @BeforeEach
+    void setUp() {
+        for (int c = 0; c < CATEGORY_COUNT; c++) {
+            Category category = Category.builder()
+                    .categoryName("카테고리" + c)
+                    .categoryBgImgUrl("https://test/bg" + c + ".jpg")
+                    .build();
+            em.persist(category);
+            if (firstCategoryId == null) firstCategoryId = category.getCategoryId();
+            for (int i = 0; i < PRODUCTS_PER_CATEGORY; i++) {
+                Product product = newProduct(category, "상품" + c + "-" + i);
+                em.persist(product);
+                productIds.add(product.getProductId());
+            }
+        }
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+    }
+
+    @Test
+    void listPageLoadsCategoriesInOneQuery() {
+        List<ProductSummaryResDto> products = productRepository.findAllBy(PageRequest.of(0, 20)).getContent()
+                .stream().map(ProductSummaryResDto::fromEntity).toList();
+
+        assertThat(products).hasSize(20).allMatch(p -> p.getCategoryName() != null);
+        assertThat(queryCounter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void categoryCursorPageLoadsCategoriesInOneQuery() {
+        List<ProductSummaryResDto> products = productRepository
+                .findPageAfter(null, firstCategoryId, null, PageRequest.of(0, 5)).getContent()
+                .stream().map(ProductSummaryResDto::fromEntity).toList();
+
+        assertThat(products).hasSize(5).allMatch(p -> p.getCategoryId().equals(firstCategoryId));
+        assertThat(queryCounter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void batchReadForOtherServicesUsesOneQuery() {
+        List<ProductSummaryResDto> products = productRepository.findByProductIdIn(productIds)
+                .stream().map(ProductSummaryResDto::fromEntity).toList();
+
+        assertThat(products).hasSize(productIds.size());
+        assertThat(queryCounter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void detailDtoLoadsImagesAndCategoriesInBatches() {
+        // fetch join 없이 읽어도 카테고리/상세 이미지는 @BatchSize 로 IN 한 번씩만 나간다
+        List<ProductResDto> products = productRepository.findAll()
+                .stream().map(Product::fromEntity).toList();
+
+        assertThat(products).hasSize(productIds.size())
+                .allMatch(p -> p.getProductImages().size() == IMAGES_PER_PRODUCT);
+        assertThat(queryCounter.get()).isEqualTo(3);
+    }
+
+    private Product newProduct(Category category, String name) {
+        List<ProductImages> images = new ArrayList<>();
+        Product product = Product.builder()
+                .name(name)
+                .price(1000)
+                .stockQuantity(10)
+                .category(category)
+                .mainImagePath("https://test/main.jpg")
+                .thumbnailPath("https://test/thumb.jpg")
+                .productImages(images)
+                .build();
+        for (int i = 0; i < IMAGES_PER_PRODUCT; i++) {
+            ProductImages image = new ProductImages();
+            image.setImgUrl("https://test/detail" + i + ".jpg");
+            image.setImgOrder(i);
+            image.setProduct(product);
+            images.add(image);
+        }
+        return product;
+    }
+}
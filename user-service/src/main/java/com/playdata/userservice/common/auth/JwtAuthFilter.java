@@ -1,9 +1,8 @@
 package com.playdata.userservice.common.auth;
 
 import com.playdata.userservice.user.entity.Role;
-import com.playdata.userservice.user.entity.User;
 import com.playdata.userservice.user.entity.UserStatus;
-import com.playdata.userservice.user.repository.UserRepository;
+import com.playdata.userservice.user.service.UserStatusCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,7 +27,7 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,10 +38,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String userRole = request.getHeader("X-User-Role");
 
             if (userEmail != null && userRole != null) {
-                User user = userRepository.findByEmail(userEmail)
+                // 회원 상태는 캐시에서 확인 (요청마다 DB 조회하지 않음)
+                UserStatus status = userStatusCache.getStatus(userEmail)
                         .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다."));
 
-                if (user.getStatus() != UserStatus.ACTIVE) {
+                if (status != UserStatus.ACTIVE) {
                     log.warn("비활성화된 계정 접근 차단: {}", userEmail);
                     response.resetBuffer();  // 스트림 리셋
                     response.setStatus(HttpStatus.FORBIDDEN.value());
@@ -0,0 +1,90 @@
+package com.playdata.userservice.common.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// spring.datasource.replica.nodes 가 설정된 경우에만 읽기 복제본 라우팅을 켠다
+// 설정이 없으면 기본 DataSource 자동 설정을 그대로 쓴다
+// 같은 내용의 복사본 (공유 모듈 없음) - 수정 시 아래 두 곳도 함께 바꿀 것
+// - ordering-service: com.playdata.orderingservice.common.configs.DataSourceConfig
+// - product-service: com.playdata.productservice.common.configs.DataSourceConfig
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.nodes[0].url")
+public class DataSourceConfig {
+
+    @Value("${spring.datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${spring.datasource.replica.check-interval-ms:5000}")
+    private long checkIntervalMs;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        List<Node> nodes = binder.bind("spring.datasource.replica.nodes", Bindable.listOf(Node.class))
+                .orElse(List.of());
+
+        HikariDataSource primary = hikari(properties, binder, "primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            HikariDataSource replica = hikari(properties, binder, "replica-" + i);
+            replica.setJdbcUrl(node.getUrl());
+            if (node.getUsername() != null) {
+                replica.setUsername(node.getUsername());
+            }
+            if (node.getPassword() != null) {
+                replica.setPassword(node.getPassword());
+            }
+            replica.setReadOnly(true);
+            replicas.put("replica-" + i, replica);
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, maxLagSeconds, checkIntervalMs);
+        routingDataSource.afterPropertiesSet();
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    // primary 접속 정보와 spring.datasource.hikari 풀 설정을 복제본 풀에도 그대로 적용
+    private HikariDataSource hikari(DataSourceProperties properties, Binder binder, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+
+    @Getter @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
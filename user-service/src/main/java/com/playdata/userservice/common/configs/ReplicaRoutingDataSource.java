@@ -0,0 +1,136 @@
+package com.playdata.userservice.common.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// @Transactional(readOnly = true) 로 시작한 서비스 트랜잭션을 복제본으로 보내는 DataSource
+// 복제 지연이 허용치를 넘거나 상태 확인에 실패한 복제본은 빼고, 남은 복제본이 없으면 primary 로 읽는다
+// 같은 내용의 복사본 (공유 모듈 없음) - 수정 시 아래 두 곳도 함께 바꿀 것
+// - ordering-service: com.playdata.orderingservice.common.configs.ReplicaRoutingDataSource
+// - product-service: com.playdata.productservice.common.configs.ReplicaRoutingDataSource
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagSeconds, long checkIntervalMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = checkIntervalMs;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        // 서비스 트랜잭션 밖에서 호출된 리포지토리 기본 트랜잭션(findById 등)도 readOnly 지만,
+        // 바로 뒤에 쓰기가 이어지는 조회인 경우가 많아 primary 에서 읽는다
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (name == null || name.contains(".repository.")) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((key, dataSource) -> {
+            try {
+                Long lag = replicationLagSeconds(dataSource);
+                if (lag != null && lag <= maxLagSeconds) {
+                    healthy.add(key);
+                } else {
+                    log.warn("복제본 {} 제외: 복제 지연 {}초 (허용 {}초)", key, lag, maxLagSeconds);
+                }
+            } catch (Exception e) {
+                log.warn("복제본 {} 제외: 상태 확인 실패 - {}", key, e.getMessage());
+            }
+        });
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("읽기 복제본 목록 변경: {}", healthy.isEmpty() ? "없음 (primary 로 읽기)" : healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    // 복제가 멈췄거나 복제본으로 설정되지 않은 서버(잘못된 URL, 승격된 노드 등)면 null -> 제외하고 primary 로 읽는다
+    private Long replicationLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement()) {
+            ResultSet rs;
+            String lagColumn = "Seconds_Behind_Source";
+            try {
+                rs = stmt.executeQuery("SHOW REPLICA STATUS");
+            } catch (SQLException e) {
+                // MySQL 8.0.22 이전
+                rs = stmt.executeQuery("SHOW SLAVE STATUS");
+                lagColumn = "Seconds_Behind_Master";
+            }
+            try (rs) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = rs.getLong(lagColumn);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagChecker.shutdownNow();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.playdata.userservice.user.repository;
 
 import com.playdata.userservice.user.entity.User;
+import com.playdata.userservice.user.entity.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     Optional<User> findBySocialProviderAndSocialId(String socialId, String socialProvider);
 
+    // 인증 필터의 상태 확인용 (엔티티 전체 대신 상태 컬럼만)
+    @Query("SELECT u.status FROM User u WHERE u.email = :email")
+    Optional<UserStatus> findStatusByEmail(@Param("email") String email);
+
 }
@@ -44,6 +44,7 @@ public class UserService {
     private final PasswordEncoder encoder;
     private final RedisTemplate  redisTemplate;
     private final MailSenderService mailSenderService;
+    private final UserStatusCache userStatusCache;
 
     // Redis Key 상수
     private static final String VERIFYCATION_CODE_KEY = "email_verify:code:";
@@ -89,6 +90,7 @@ public class UserService {
         return user;
     }
 
+    @Transactional(readOnly = true)
     public UserResDto myInfo() {
         TokenUserInfo userInfo
 
@@ -111,6 +113,8 @@ public class UserService {
             if (userRepository.existsByEmail(dto.getEmail())) {
                 throw new IllegalArgumentException("이미 사용중인 이메일 입니다.");
             }
+            // 이전 이메일로 캐시된 상태 제거
+            userStatusCache.evict(user.getEmail());
             user.setEmail(dto.getEmail());
         }
         if (dto.getPassword() != null && !dto.getPassword().isBlank()) {
@@ -126,7 +130,9 @@ public class UserService {
         user.setAddress(dto.getAddress());
         user.setPhone(dto.getPhone());
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userStatusCache.evict(saved.getEmail());
+        return saved;
     }
 
     public User updateUserAddress(Long userId, String address) {
@@ -144,6 +150,7 @@ public class UserService {
 
         user.setStatus(UserStatus.DELETED);
         userRepository.save(user);
+        userStatusCache.evict(user.getEmail());
 
         log.info("탈퇴 완료: userId={}, status={}", userId, user.getStatus());
     }
@@ -157,8 +164,10 @@ public class UserService {
 
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
+        userStatusCache.evict(user.getEmail());
     }
 
+    @Transactional(readOnly = true)
     public List<UserResDto> userList(Pageable pageable) {
 
         Page<User> users = userRepository.findAll(pageable);
@@ -172,11 +181,13 @@ public class UserService {
 
     }
 
+    @Transactional(readOnly = true)
     public User findById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found!"));
     }
 
+    @Transactional(readOnly = true)
     public UserResDto findByEmail(String email) {
         User user = userRepository.findByEmail(email).orElseThrow(
                 () -> new EntityNotFoundException("User not found!")
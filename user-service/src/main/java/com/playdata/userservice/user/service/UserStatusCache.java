@@ -0,0 +1,123 @@
+package com.playdata.userservice.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.playdata.userservice.user.entity.UserStatus;
+import com.playdata.userservice.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 인증 필터가 요청마다 확인하는 회원 상태(ACTIVE/DELETED) 캐시
+// 로컬(Caffeine, 짧은 TTL) -> Redis -> DB 순으로 조회하고, 상태/이메일이 바뀌면 UserService 가 evict 한다.
+// 로컬 캐시는 다른 인스턴스에서 바뀐 값을 알 수 없으므로 TTL 을 짧게 둔다.
+// 적중률: user.status.cache{result=local|redis|miss} 카운터 (actuator /metrics)
+@Component
+@Slf4j
+public class UserStatusCache {
+
+    private static final String KEY_PREFIX = "user:status:";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, UserStatus> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHit;
+    private final Counter redisHit;
+    private final Counter miss;
+
+    public UserStatusCache(UserRepository userRepository,
+                           RedisTemplate<String, Object> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${user.status-cache.local-ttl-seconds:10}") long localTtlSeconds,
+                           @Value("${user.status-cache.redis-ttl-seconds:300}") long redisTtlSeconds,
+                           @Value("${user.status-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localHit = meterRegistry.counter("user.status.cache", "result", "local");
+        this.redisHit = meterRegistry.counter("user.status.cache", "result", "redis");
+        this.miss = meterRegistry.counter("user.status.cache", "result", "miss");
+    }
+
+    // 회원이 없으면 빈 값 (없는 회원은 캐시하지 않는다)
+    public Optional<UserStatus> getStatus(String email) {
+        UserStatus status = localCache.getIfPresent(email);
+        if (status != null) {
+            localHit.increment();
+            return Optional.of(status);
+        }
+
+        status = readRedis(email);
+        if (status != null) {
+            redisHit.increment();
+            localCache.put(email, status);
+            return Optional.of(status);
+        }
+
+        miss.increment();
+        Optional<UserStatus> found = userRepository.findStatusByEmail(email);
+        found.ifPresent(s -> {
+            localCache.put(email, s);
+            writeRedis(email, s);
+        });
+        return found;
+    }
+
+    // 트랜잭션 안이면 지금 한 번, 커밋 후에 한 번 더 지운다
+    // (커밋 전에 다른 요청이 옛 상태를 다시 캐시에 올려도 커밋 직후 정리됨)
+    public void evict(String email) {
+        if (email == null) return;
+        evictNow(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(email);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String email) {
+        localCache.invalidate(email);
+        try {
+            redisTemplate.delete(KEY_PREFIX + email);
+        } catch (Exception e) {
+            log.warn("회원 상태 캐시 삭제 실패 email={}: {}", email, e.getMessage());
+        }
+    }
+
+    private UserStatus readRedis(String email) {
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+            return value != null ? UserStatus.valueOf(value.toString()) : null;
+        } catch (Exception e) {
+            // Redis 장애 시 DB 로 바로 조회
+            log.warn("회원 상태 캐시 조회 실패 email={}: {}", email, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String email, UserStatus status) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + email, status.name(), redisTtl);
+        } catch (Exception e) {
+            log.warn("회원 상태 캐시 저장 실패 email={}: {}", email, e.getMessage());
+        }
+    }
+}